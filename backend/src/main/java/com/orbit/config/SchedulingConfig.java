@@ -0,0 +1,15 @@
+package com.orbit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - @Scheduled 가 선언된 작업(프로젝트 상태 갱신, 송장 연체 처리, 아웃박스 전송 등)을 활성화
+ * - 여러 노드에서 한 번만 실행되어야 하는 작업은 SchedulerLockService 로 잠금을 획득한 뒤 실행
+ * - 스케줄러 스레드 수는 spring.task.scheduling.pool.size 로 지정하고, 오래 걸리는 작업(알림 보관 이동 등)은 전용 스레드에서 실행
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
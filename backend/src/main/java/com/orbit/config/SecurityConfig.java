@@ -164,6 +164,7 @@ public class SecurityConfig {
                 // 시스템 설정 (ADMIN 역할만 접근 가능)
                 .requestMatchers("/api/settings/**").hasRole("ADMIN")
                 .requestMatchers("/api/common-codes/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                 // 메시지 관련 API (USER 및 ADMIN 역할만 접근 가능)
                 .requestMatchers("/api/messages/**").hasAnyRole("USER", "ADMIN")
@@ -0,0 +1,32 @@
+package com.orbit.config.datainitializer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.orbit.service.procurement.ApprovalInboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결재함 초기화
+ * - 결재함 테이블이 비어 있으면 기존 결재선으로 한 번에 적재
+ * - 이후에는 결재선 생성/처리 시점에 결재함이 함께 갱신됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalInboxInitializer {
+
+    private final ApprovalInboxService approvalInboxService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeApprovalInbox() {
+        try {
+            approvalInboxService.rebuildIfEmpty();
+        } catch (Exception e) {
+            log.warn("결재함 초기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.orbit.config.datainitializer;
+
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 풀링(pooled) 시퀀스 초기화
+ * - IDENTITY 전략은 Hibernate JDBC 배치 INSERT를 비활성화하므로, 대량 생성되는 엔티티는 시퀀스 + pooled 옵티마이저로 전환
+ * - 기존 AUTO_INCREMENT 테이블에는 이미 행이 존재하므로, 새로 만들어진 시퀀스를 MAX(id) 이후로 이동시켜 ID 충돌을 방지
+ * - SETVAL은 현재 값보다 작은 값을 무시하므로 매 기동 시 반복 실행해도 안전함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(0) // 다른 데이터 초기화보다 먼저 실행
+public class PooledSequenceInitializer {
+
+    /**
+     * 엔티티의 @SequenceGenerator allocationSize 와 동일해야 함
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마(시퀀스) 생성 이후 실행되도록 의존
+
+    /**
+     * 시퀀스 - 테이블 - PK 컬럼 매핑
+     */
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("bidding_participations_seq", "bidding_participations", "id"),
+            new SequenceTarget("approval_lines_seq", "approval_lines", "id"),
+            new SequenceTarget("purchase_request_items_seq", "purchase_request_items", "purchase_request_item_id"),
+            new SequenceTarget("deliveries_seq", "deliveries", "id"),
+            new SequenceTarget("notifications_seq", "notifications", "id"),
+            new SequenceTarget("status_histories_seq", "status_histories", "id"),
+            new SequenceTarget("message_seq", "message", "msg_id")
+    );
+
+    @PostConstruct
+    public void alignSequences() {
+        for (SequenceTarget target : TARGETS) {
+            try {
+                Long maxId = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(" + target.idColumn() + "), 0) FROM " + target.table(), Long.class);
+
+                // pooled 옵티마이저는 조회한 값을 풀의 상한으로 사용하므로 allocationSize 만큼 여유를 둠
+                long nextValue = (maxId == null ? 0L : maxId) + ALLOCATION_SIZE;
+                jdbcTemplate.queryForObject("SELECT SETVAL(" + target.sequence() + ", " + nextValue + ")", Long.class);
+
+                log.info("시퀀스 정렬 완료: {} (MAX(id)={})", target.sequence(), maxId);
+            } catch (Exception e) {
+                log.warn("시퀀스 정렬 실패: {} - {}", target.sequence(), e.getMessage());
+            }
+        }
+    }
+
+    private record SequenceTarget(String sequence, String table, String idColumn) {
+    }
+}
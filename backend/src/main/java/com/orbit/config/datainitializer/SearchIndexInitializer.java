@@ -0,0 +1,34 @@
+package com.orbit.config.datainitializer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.orbit.service.search.SearchIndexService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 색인 초기화
+ * - 색인 테이블이 비어 있으면 기존 입고/송장 데이터를 청크 단위로 색인
+ * - 이후에는 입고/송장 저장 시점에 색인이 함께 갱신됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final SearchIndexService searchIndexService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSearchIndex() {
+        try {
+            searchIndexService.rebuildIfEmpty(CHUNK_SIZE);
+        } catch (Exception e) {
+            log.warn("검색 색인 초기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.orbit.config.redis;
 
+import com.orbit.event.listener.ClusterBroadcastListener;
+import com.orbit.event.listener.OrgChartInvalidationListener;
+import com.orbit.event.publisher.ClusterBroadcastPublisher;
 import com.orbit.service.MessageSubscriberService;
+import com.orbit.service.procurement.OrgChartIndex;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +14,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
@@ -65,6 +70,8 @@ public class RedisConfig {
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         template.setKeySerializer(stringSerializer);
         template.setValueSerializer(stringSerializer);
+        template.setHashKeySerializer(stringSerializer); // 해시 필드도 문자열 (Lua 스크립트의 HINCRBY 와 같은 필드 사용)
+        template.setHashValueSerializer(stringSerializer);
 
         return template;
     }
@@ -72,13 +79,21 @@ public class RedisConfig {
     /**
      * 🔹 Redis Pub/Sub 메시지 리스너 컨테이너 설정
      * - "chat_channel"을 구독하여 메시지를 수신할 수 있도록 설정
+     * - 도메인 채널(구매 요청 상태, 결재 등)을 구독하여 다른 노드에서 발생한 WebSocket 메시지를 로컬 브로커로 재발행
+     * - 조직도 변경 채널을 구독하여 다른 노드에서 변경된 항목을 로컬 조직도 색인에 반영
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
-            RedisConnectionFactory connectionFactory, MessageSubscriberService subscriber) {
+            RedisConnectionFactory connectionFactory, MessageSubscriberService subscriber,
+            ClusterBroadcastListener clusterBroadcastListener,
+            OrgChartInvalidationListener orgChartInvalidationListener) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(new MessageListenerAdapter(subscriber), new PatternTopic("chat_channel"));
+        container.addMessageListener(clusterBroadcastListener, ClusterBroadcastPublisher.CHANNELS.stream()
+                .map(ChannelTopic::new)
+                .toList());
+        container.addMessageListener(orgChartInvalidationListener, new ChannelTopic(OrgChartIndex.INVALIDATION_CHANNEL));
         return container;
     }
 }
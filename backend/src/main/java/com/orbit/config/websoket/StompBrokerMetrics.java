@@ -0,0 +1,221 @@
+package com.orbit.config.websoket;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 브로커 지표
+ * - 알려진 목적지 접두사(예: /topic/approvals, /user/queue/approval-inbox, 그 외는 other)별 구독 세션 수, 메시지 수, 끊긴 세션 수 기록
+ * - 사용자 목적지(/user/...)는 세션별로 변환되기 전의 원래 목적지로 집계
+ * - 채널 실행기별 대기열 길이와 대기열 초과로 버린 메시지 수 기록
+ * - 지표: websocket.stomp.subscriptions(접두사별 구독 수), websocket.stomp.messages(접두사/방향별 메시지 수),
+ *   websocket.stomp.sessions.dropped(느린 소비자로 끊긴 세션, 구독 접두사별), websocket.channel.queue.depth,
+ *   websocket.channel.rejected
+ */
+@Slf4j
+@Component
+public class StompBrokerMetrics {
+
+    // 서버가 전송하는 목적지 접두사 (지표 태그로 사용)
+    private static final List<String> KNOWN_PREFIXES = List.of(
+            "/topic/approvals",
+            "/topic/chat",
+            "/topic/purchase-request",
+            "/user/queue/approvals",
+            "/user/queue/approval-inbox",
+            "/queue/notifications");
+    private static final String OTHER_PREFIX = "other";
+
+    private final MeterRegistry meterRegistry;
+
+    // 세션 ID - (구독 ID - 목적지 접두사)
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+    // 목적지 접두사별 구독 수
+    private final Map<String, AtomicInteger> subscriptionCounts = new ConcurrentHashMap<>();
+    // 목적지 접두사/방향별 메시지 수
+    private final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
+
+    public StompBrokerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 클라이언트 → 서버 채널 인터셉터 (구독 추적, 수신 메시지 수)
+     * - 세션의 구독 정보는 연결 종료 시 정리 (한도 초과로 끊긴 세션은 DISCONNECT 가 먼저 전달되므로 그 전에 지우지 않음)
+     */
+    public ChannelInterceptor inboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+                String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                if (type == null || sessionId == null) {
+                    return message;
+                }
+                switch (type) {
+                    case SUBSCRIBE -> subscribe(sessionId,
+                            SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()),
+                            SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+                    case UNSUBSCRIBE -> unsubscribe(sessionId,
+                            SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()));
+                    case MESSAGE -> countMessage(SimpMessageHeaderAccessor.getDestination(message.getHeaders()), "inbound");
+                    default -> {
+                    }
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * 서버 → 클라이언트 채널 인터셉터 (세션별 전달 메시지 수)
+     * - 사용자 목적지로 보낸 메시지는 세션별 목적지(/queue/...-user{세션 ID}) 대신 원래 목적지(/user/queue/...)로 집계
+     */
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    Object original = message.getHeaders().get(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+                    countMessage(original instanceof String destination
+                            ? destination
+                            : SimpMessageHeaderAccessor.getDestination(message.getHeaders()), "outbound");
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * 세션 종료 감지 (전송 시간/버퍼 한도를 넘어 끊긴 세션 기록)
+     */
+    public WebSocketHandlerDecoratorFactory sessionDecoratorFactory() {
+        return handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    recordDropped(session.getId());
+                }
+                try {
+                    super.afterConnectionClosed(session, closeStatus);
+                } finally {
+                    removeSession(session.getId());
+                }
+            }
+        };
+    }
+
+    /**
+     * 채널 실행기 지표 등록 (대기열 길이, 대기열 초과 시 버린 메시지 수)
+     * - 대기열이 가득 차면 메시지를 버리고 예외를 던짐 (브로커는 해당 구독자 전송만 실패로 기록)
+     */
+    public void bindExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.channel.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("STOMP 채널 실행기 대기열 길이")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("websocket.channel.rejected")
+                .description("STOMP 채널 실행기 대기열 초과로 버린 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException(channel + " 채널 대기열이 가득 찼습니다.");
+        });
+    }
+
+    /**
+     * 목적지 접두사 (알려진 접두사만 태그로 사용, 예: /topic/approvals/12 → /topic/approvals)
+     * - 목적지는 클라이언트가 임의로 정할 수 있으므로 그 외 목적지는 모두 other 로 묶어 태그 수를 고정
+     */
+    static String prefixOf(String destination) {
+        if (destination == null) {
+            return OTHER_PREFIX;
+        }
+        for (String prefix : KNOWN_PREFIXES) {
+            if (destination.equals(prefix) || destination.startsWith(prefix + "/")) {
+                return prefix;
+            }
+        }
+        return OTHER_PREFIX;
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (subscriptionId == null) {
+            return;
+        }
+        String prefix = prefixOf(destination);
+        String previous = subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, prefix);
+        if (previous != null) {
+            subscriptionCount(previous).decrementAndGet();
+        }
+        subscriptionCount(prefix).incrementAndGet();
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> session = subscriptions.get(sessionId);
+        String prefix = session != null && subscriptionId != null ? session.remove(subscriptionId) : null;
+        if (prefix != null) {
+            subscriptionCount(prefix).decrementAndGet();
+        }
+    }
+
+    private void removeSession(String sessionId) {
+        Map<String, String> session = subscriptions.remove(sessionId);
+        if (session != null) {
+            session.values().forEach(prefix -> subscriptionCount(prefix).decrementAndGet());
+        }
+    }
+
+    private void recordDropped(String sessionId) {
+        Map<String, String> session = subscriptions.getOrDefault(sessionId, Map.of());
+        log.warn("느린 WebSocket 세션 연결 종료: {} (구독 {}건)", sessionId, session.size());
+        session.values().stream().distinct().forEach(prefix ->
+                Counter.builder("websocket.stomp.sessions.dropped")
+                        .description("전송 시간/버퍼 한도를 넘어 끊긴 세션 수")
+                        .tag("prefix", prefix)
+                        .register(meterRegistry)
+                        .increment());
+    }
+
+    private void countMessage(String destination, String direction) {
+        String prefix = prefixOf(destination);
+        messageCounters.computeIfAbsent(direction + prefix, key -> Counter.builder("websocket.stomp.messages")
+                        .description("STOMP 메시지 수 (outbound 는 구독 세션별 전달 건수)")
+                        .tag("prefix", prefix)
+                        .tag("direction", direction)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private AtomicInteger subscriptionCount(String prefix) {
+        return subscriptionCounts.computeIfAbsent(prefix, key -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("websocket.stomp.subscriptions", count, AtomicInteger::get)
+                    .description("목적지 접두사별 구독 수")
+                    .tag("prefix", key)
+                    .register(meterRegistry);
+            return count;
+        });
+    }
+}
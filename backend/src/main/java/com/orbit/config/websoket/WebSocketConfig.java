@@ -1,10 +1,14 @@
 package com.orbit.config.websoket;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * 웹소켓 설정
@@ -15,11 +19,42 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * - "/ws" 경로로 STOMP 웹소켓 엔드포인트를 등록, 클라이언트는 이 경로로 접속하여 웹소켓 연결을 요청, 웹소켓 연결을 요청하는 이유는? 웹소켓을 사용하여 실시간으로 메시지를 주고받기 위함
  * - "/topic"으로 시작하는 메시지를 메시지 브로커로 라우팅, 메시지 브로커는 이 메시지를 구독하고 있는 클라이언트에게 메시지를 전달, 클라이언트는 이 메시지를 구독하고 있다가 메시지를 받으면 화면에 표시
  * - "/app"으로 시작하는 메시지를 컨트롤러로 라우팅, 컨트롤러는 이 메시지를 처리하여 결과를 반환, 클라이언트는 이 결과를 화면에 표시, 이때 메시지 브로커는 라우팅만 수행하고 메시지를 중계하지 않음, 중계는 메시지 브로커가 수행
+ * - 인바운드/아웃바운드 채널 실행기는 스레드 수와 대기열 크기를 제한하고, 세션별 전송 시간/버퍼 한도를 넘는 느린 클라이언트는 연결을 끊음
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompBrokerMetrics stompBrokerMetrics;
+
+    @Value("${websocket.channel.inbound.pool-size:8}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.channel.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channel.outbound.pool-size:16}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.channel.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 세션별 한 메시지 전송 시간 한도 (ms), 넘으면 연결 종료
+    @Value("${websocket.send-time-limit:10000}")
+    private int sendTimeLimit;
+
+    // 세션별 전송 대기 버퍼 한도 (bytes), 넘으면 연결 종료
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // 클라이언트가 보내는 메시지 크기 한도 (bytes)
+    @Value("${websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    public WebSocketConfig(StompBrokerMetrics stompBrokerMetrics) {
+        this.stompBrokerMetrics = stompBrokerMetrics;
+    }
+
     /**
      * 🔹 STOMP 웹소켓 엔드포인트 등록
      * - STOMP 프로토콜 : 웹소켓을 사용하기 위한 하위 프로토콜로 메시지 전송을 단순화하는 프로토콜, 메시지 전송을 위한 프로토콜
@@ -54,4 +89,45 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.enableSimpleBroker("/topic", "/queue");
         registry.setApplicationDestinationPrefixes("/app");
     }
+
+    /**
+     * 🔹 클라이언트 → 서버 채널 (SUBSCRIBE, SEND 등 처리)
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("inbound", inboundPoolSize, inboundQueueCapacity));
+        registration.interceptors(stompBrokerMetrics.inboundInterceptor());
+    }
+
+    /**
+     * 🔹 서버 → 클라이언트 채널 (브로커가 구독 세션별로 전달)
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound", outboundPoolSize, outboundQueueCapacity));
+        registration.interceptors(stompBrokerMetrics.outboundInterceptor());
+    }
+
+    /**
+     * 🔹 세션별 전송 한도
+     * - 전송 시간이나 대기 버퍼가 한도를 넘으면 해당 세션만 끊어서 느린 클라이언트가 메모리를 쌓지 않도록 함
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(stompBrokerMetrics.sessionDecoratorFactory());
+    }
+
+    private ThreadPoolTaskExecutor channelExecutor(String channel, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stomp-" + channel + "-");
+        executor.setAllowCoreThreadTimeOut(true);
+        stompBrokerMetrics.bindExecutor(channel, executor);
+        return executor;
+    }
 }
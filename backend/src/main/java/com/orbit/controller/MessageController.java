@@ -0,0 +1,79 @@
+package com.orbit.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.orbit.dto.MessageHistoryDto;
+import com.orbit.dto.MessageRequestDto;
+import com.orbit.entity.member.Member;
+import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.ChatMessageService;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/messages")
+@RequiredArgsConstructor
+public class MessageController {
+    private final ChatMessageService chatMessageService;
+    private final MemberRepository memberRepository;
+
+    // 메시지 전송 (발신자는 로그인 사용자, 수신자/발신자에게는 /topic/chat/{memberId} 로 전달)
+    @PostMapping
+    public ResponseEntity<Void> sendMessage(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestBody MessageRequestDto request
+    ) {
+        Member user = findUser(userDetails);
+        chatMessageService.send(user.getId(), request);
+        return ResponseEntity.accepted().build();
+    }
+
+    // 대화 메시지 이력 (커서 기반, 최신순) - 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+    @GetMapping("/conversations/{otherId}")
+    public ResponseEntity<MessageHistoryDto> getConversation(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @PathVariable Long otherId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "30") int size
+    ) {
+        Member user = findUser(userDetails);
+        return ResponseEntity.ok(chatMessageService.getConversation(user.getId(), otherId, cursor, size));
+    }
+
+    // 대화 읽음 처리 (상대방이 보낸 메시지)
+    @PutMapping("/conversations/{otherId}/read")
+    public ResponseEntity<Integer> markConversationAsRead(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @PathVariable Long otherId
+    ) {
+        Member user = findUser(userDetails);
+        return ResponseEntity.ok(chatMessageService.markConversationAsRead(user.getId(), otherId));
+    }
+
+    // 대화별 읽지 않은 메시지 수 (상대방 ID - 건수)
+    @GetMapping("/unread-counts")
+    public ResponseEntity<Map<Long, Long>> getUnreadCounts(
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        Member user = findUser(userDetails);
+        return ResponseEntity.ok(chatMessageService.getUnreadCounts(user.getId()));
+    }
+
+    private Member findUser(UserDetails userDetails) {
+        return memberRepository.findByUsername(userDetails.getUsername())
+            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+    }
+}
@@ -9,12 +9,16 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.orbit.dto.NotificationDto;
+import com.orbit.dto.NotificationFeedDto;
 import com.orbit.entity.member.Member;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationArchiveService;
 import com.orbit.service.NotificationService;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -25,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NotificationController {
     private final NotificationService notificationService;
+    private final NotificationArchiveService notificationArchiveService;
     private final MemberRepository memberRepository;
 
     // 사용자 알림 목록 조회
@@ -39,6 +44,33 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // 알림 피드 (커서 기반, 최신순) - 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+    @GetMapping("/feed")
+    public ResponseEntity<NotificationFeedDto> getNotificationFeed(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "false") boolean unreadOnly
+    ) {
+        Member user = memberRepository.findByUsername(userDetails.getUsername())
+            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        return ResponseEntity.ok(notificationService.getNotificationFeed(user.getId(), cursor, size, unreadOnly));
+    }
+
+    // 보관 알림 피드 (보존 기간이 지나 보관된 알림, 커서 기반 최신순)
+    @GetMapping("/archive")
+    public ResponseEntity<NotificationFeedDto> getArchivedNotifications(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        Member user = memberRepository.findByUsername(userDetails.getUsername())
+            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        return ResponseEntity.ok(notificationArchiveService.getArchivedFeed(user.getId(), cursor, size));
+    }
+
     // 읽지 않은 알림 개수 조회
     @GetMapping("/unread/count")
     public ResponseEntity<Long> getUnreadNotificationsCount(
@@ -90,6 +122,42 @@ public class NotificationController {
         return ResponseEntity.noContent().build();
     }
 
+    // 모두 읽음 처리 (cursor 로 지정한 알림까지, 없으면 전체) - 읽음 처리된 건수 반환
+    @PutMapping("/read-all")
+    public ResponseEntity<Integer> markAllNotificationsAsRead(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(required = false) String cursor
+    ) {
+        Member user = memberRepository.findByUsername(userDetails.getUsername())
+            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        return ResponseEntity.ok(notificationService.markAllNotificationsAsRead(user.getId(), cursor));
+    }
+
+    // 선택한 알림 읽음 처리 - 읽음 처리된 건수 반환
+    @PutMapping("/read")
+    public ResponseEntity<Integer> markNotificationsAsRead(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestBody List<Long> notificationIds
+    ) {
+        Member user = memberRepository.findByUsername(userDetails.getUsername())
+            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        return ResponseEntity.ok(notificationService.markNotificationsAsRead(user.getId(), notificationIds));
+    }
+
+    // N일 이전의 읽은 알림 삭제 - 삭제된 건수 반환
+    @DeleteMapping("/read")
+    public ResponseEntity<Integer> deleteReadNotifications(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(defaultValue = "30") int olderThanDays
+    ) {
+        Member user = memberRepository.findByUsername(userDetails.getUsername())
+            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        return ResponseEntity.ok(notificationService.deleteReadNotifications(user.getId(), olderThanDays));
+    }
+
     // 알림 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteNotification(
@@ -1,16 +1,25 @@
 package com.orbit.controller.approval;
 
+import com.orbit.dto.approval.ApprovalBatchProcessDTO;
+import com.orbit.dto.approval.ApprovalBatchResultDTO;
+import com.orbit.dto.approval.ApprovalInboxCountDTO;
 import com.orbit.dto.approval.ApprovalLineCreateDTO;
 import com.orbit.dto.approval.ApprovalLineResponseDTO;
+import com.orbit.dto.approval.ApprovalLineSnapshotDTO;
 import com.orbit.dto.approval.ApprovalProcessDTO;
 import com.orbit.dto.procurement.PurchaseRequestDTO;
+import com.orbit.entity.approval.ApprovalInboxItem;
 import com.orbit.entity.procurement.PurchaseRequest;
+import com.orbit.service.procurement.ApprovalInboxService;
 import com.orbit.service.procurement.ApprovalLineService;
 import com.orbit.service.procurement.PurchaseRequestService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,6 +30,7 @@ import java.util.List;
 public class ApprovalController {
 
     private final ApprovalLineService approvalLineService;
+    private final ApprovalInboxService approvalInboxService;
 
     @PostMapping
     public ResponseEntity<ApprovalLineResponseDTO> createApprovalLine(
@@ -39,6 +49,15 @@ public class ApprovalController {
         return ResponseEntity.ok(processedLine);
     }
 
+    /**
+     * 일괄 결재 (선택한 결재선에 같은 결재 액션 적용, 처리할 수 없는 결재선은 실패 목록으로 반환)
+     */
+    @PostMapping("/batch/process")
+    public ResponseEntity<ApprovalBatchResultDTO> processApprovals(
+            @Valid @RequestBody ApprovalBatchProcessDTO dto) {
+        return ResponseEntity.ok(approvalLineService.processApprovals(dto));
+    }
+
     @GetMapping("/{requestId}")
     public ResponseEntity<List<ApprovalLineResponseDTO>> getApprovalLines(
             @PathVariable Long requestId) {
@@ -46,6 +65,15 @@ public class ApprovalController {
         return ResponseEntity.ok(lines);
     }
 
+    /**
+     * 결재선 전체 스냅샷 (실시간 변경 이벤트의 버전이 누락되었을 때 재동기화)
+     */
+    @GetMapping("/{requestId}/snapshot")
+    public ResponseEntity<ApprovalLineSnapshotDTO> getApprovalLineSnapshot(
+            @PathVariable Long requestId) {
+        return ResponseEntity.ok(approvalLineService.getApprovalLineSnapshot(requestId));
+    }
+
     @GetMapping("/eligible-members")
     public ResponseEntity<List<ApprovalLineResponseDTO>> getEligibleApprovalMembers() {
         List<ApprovalLineResponseDTO> eligibleMembers = approvalLineService.findByPositionLevelGreaterThanEqual();
@@ -58,6 +86,26 @@ public class ApprovalController {
         return ResponseEntity.ok(pendingApprovals);
     }
 
+    /**
+     * 결재함 페이지 조회 (box: PENDING 결재 대기, COMPLETED 결재 완료)
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<Page<ApprovalLineResponseDTO>> getInbox(
+            @RequestParam(defaultValue = "PENDING") ApprovalInboxItem.Box box,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        return ResponseEntity.ok(approvalInboxService.getInbox(authentication.getName(), box, PageRequest.of(page, size)));
+    }
+
+    /**
+     * 결재함 건수 (배지 초기값, 이후 변경은 /user/queue/approval-inbox 로 전송)
+     */
+    @GetMapping("/inbox/counts")
+    public ResponseEntity<ApprovalInboxCountDTO> getInboxCounts(Authentication authentication) {
+        return ResponseEntity.ok(approvalInboxService.getCounts(authentication.getName()));
+    }
+
     @GetMapping("/completed")
     public ResponseEntity<List<ApprovalLineResponseDTO>> getCompletedApprovals() {
         List<ApprovalLineResponseDTO> completedApprovals = approvalLineService.getCompletedApprovals();
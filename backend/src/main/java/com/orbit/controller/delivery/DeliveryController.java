@@ -7,6 +7,7 @@ import com.orbit.service.member.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @RestController
@@ -34,6 +34,7 @@ public class DeliveryController {
      */
     @GetMapping
     public ResponseEntity<Page<DeliveryDto.Response>> getDeliveries(
+            @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String deliveryNumber,
             @RequestParam(required = false) String orderNumber,
             @RequestParam(required = false) Long supplierId,
@@ -45,6 +46,7 @@ public class DeliveryController {
             @RequestParam(defaultValue = "10") int size) {
 
         DeliveryDto.SearchCondition condition = DeliveryDto.SearchCondition.builder()
+                .keyword(keyword)
                 .deliveryNumber(deliveryNumber)
                 .orderNumber(orderNumber)
                 .supplierId(supplierId)
@@ -149,8 +151,12 @@ public class DeliveryController {
      * 송장 미발행 입고 목록 조회 (계약 번호 포함)
      */
     @GetMapping("/uninvoiced-with-contracts")
-    public ResponseEntity<List<Map<String, Object>>> getUninvoicedDeliveriesWithContracts() {
-        List<Map<String, Object>> result = deliveryService.getUninvoicedDeliveriesWithContracts();
+    public ResponseEntity<Page<DeliveryDto.UninvoicedResponse>> getUninvoicedDeliveriesWithContracts(
+            @RequestParam(required = false) String supplierName,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        Page<DeliveryDto.UninvoicedResponse> result = deliveryService.getUninvoicedDeliveriesWithContracts(
+                supplierName, PageRequest.of(page, size));
         return ResponseEntity.ok(result);
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.orbit.controller.member;
 
+import com.orbit.exception.TooManyRequestsException;
 import com.orbit.service.member.EmailVerificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -37,6 +39,9 @@ public class EmailVerificationController {
             emailVerificationService.sendVerificationCode(email);
             response.put("message", "인증 코드가 이메일로 전송되었습니다");
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException e) {
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
         } catch (Exception e) {
             response.put("error", "인증 코드 전송에 실패했습니다");
             response.put("details", e.getMessage());
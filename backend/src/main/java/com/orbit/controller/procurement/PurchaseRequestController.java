@@ -5,10 +5,14 @@ import com.orbit.dto.item.CategoryDTO;
 import com.orbit.dto.item.ItemDTO;
 import com.orbit.dto.member.MemberDTO;
 import com.orbit.dto.procurement.PurchaseRequestDTO;
+import com.orbit.dto.procurement.PurchaseRequestSummaryDTO;
 import com.orbit.service.procurement.PurchaseRequestService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -22,6 +26,7 @@ import org.springframework.web.util.UriUtils;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +47,42 @@ public class PurchaseRequestController {
         return new ResponseEntity<>(purchaseRequests, HttpStatus.OK);
     }
 
+    /**
+     * 구매 요청 목록 페이지 조회 (유형, 상태, 프로젝트, 요청자, 요청일 기간 필터)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Page<PurchaseRequestDTO>> getPurchaseRequestPage(
+            @RequestParam(required = false) String requestType,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<PurchaseRequestDTO> result = purchaseRequestService.getPurchaseRequests(
+                requestType, status, projectId, memberId, startDate, endDate, PageRequest.of(page, size));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 구매 요청 목록 요약 (목록 컬럼만 조회, 본문/첨부 파일/품목 제외)
+     * - requestType 을 지정하면 유형별 컬럼(SI 기간, 유지보수 계약 기간/금액)을 함께 반환
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<Page<PurchaseRequestSummaryDTO>> getPurchaseRequestSummaries(
+            @RequestParam(required = false) String requestType,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(purchaseRequestService.getPurchaseRequestSummaries(
+                requestType, status, projectId, memberId, startDate, endDate, PageRequest.of(page, size)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PurchaseRequestDTO> getPurchaseRequestById(@PathVariable Long id) {
         PurchaseRequestDTO purchaseRequest = purchaseRequestService.getPurchaseRequestById(id);
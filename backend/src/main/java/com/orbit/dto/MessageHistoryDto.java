@@ -0,0 +1,36 @@
+package com.orbit.dto;
+
+import java.util.List;
+
+import com.orbit.util.KeysetPageUtil;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 대화 메시지 이력 (커서 기반 페이지)
+ * - 커서는 마지막 메시지의 (regTime, id) 를 "regTime_id" 형식으로 표현 (KeysetPageUtil)
+ * - 다음 페이지는 nextCursor 를 그대로 전달하여 조회
+ * - 아직 저장되지 않은 메시지는 id 가 null
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageHistoryDto {
+    private List<MessageResponseDto> items;
+    private String nextCursor; // 다음 페이지가 없으면 null
+    private boolean hasNext;
+
+    public static MessageHistoryDto from(KeysetPageUtil.Page<MessageResponseDto> page) {
+        return MessageHistoryDto.builder()
+                .items(page.items())
+                .hasNext(page.hasNext())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+}
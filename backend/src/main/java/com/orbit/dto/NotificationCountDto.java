@@ -0,0 +1,18 @@
+package com.orbit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 읽지 않은 알림 수 (/queue/notifications/{userId} 로 변경 시마다 전송)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCountDto {
+    private Long userId;
+    private long unreadCount;
+}
@@ -0,0 +1,35 @@
+package com.orbit.dto;
+
+import java.util.List;
+
+import com.orbit.util.KeysetPageUtil;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 알림 피드 (커서 기반 페이지)
+ * - 커서는 마지막 알림의 (createdAt, id) 를 "createdAt_id" 형식으로 표현 (KeysetPageUtil)
+ * - 다음 페이지는 nextCursor 를 그대로 전달하여 조회
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFeedDto {
+    private List<NotificationDto> items;
+    private String nextCursor; // 다음 페이지가 없으면 null
+    private boolean hasNext;
+
+    public static NotificationFeedDto from(KeysetPageUtil.Page<NotificationDto> page) {
+        return NotificationFeedDto.builder()
+                .items(page.items())
+                .hasNext(page.hasNext())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.orbit.dto.approval;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 일괄 결재 요청 (여러 결재선에 같은 결재 액션 적용)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalBatchProcessDTO {
+    @NotEmpty(message = "결재선을 하나 이상 선택해야 합니다.")
+    @Size(max = 500, message = "한 번에 최대 500건까지 처리할 수 있습니다.")
+    private List<Long> lineIds;
+
+    @NotBlank
+    private String action; // "APPROVE" 또는 "REJECT"
+    private String comment;
+
+    @NotBlank
+    private String nextStatusCode; // 처리한 결재선의 상태 코드 (예: "APPROVED")
+}
@@ -0,0 +1,32 @@
+package com.orbit.dto.approval;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 결재 결과
+ * - 처리할 수 없는 결재선(없음, 결재자 아님, 결재 차례 아님)은 건너뛰고 사유와 함께 반환
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalBatchResultDTO {
+    @Builder.Default
+    private List<ApprovalLineResponseDTO> processed = new ArrayList<>();
+
+    @Builder.Default
+    private List<Failure> failures = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+        private Long lineId;
+        private String reason;
+    }
+}
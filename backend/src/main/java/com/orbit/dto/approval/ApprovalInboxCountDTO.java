@@ -0,0 +1,16 @@
+package com.orbit.dto.approval;
+
+import lombok.*;
+
+/**
+ * 결재함 건수 (결재자의 /user/queue/approval-inbox 로 변경 시마다 전송)
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxCountDTO {
+    private Long approverId;
+    private long pendingCount;    // 결재 대기 건수
+    private long completedCount;  // 결재 완료 건수
+}
@@ -0,0 +1,39 @@
+package com.orbit.dto.approval;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결재선 변경 이벤트 (/topic/approvals/{purchaseRequestId})
+ * - 변경된 결재선만 담아 전송하고, 구매 요청별 버전은 변경마다 1씩 증가
+ * - 클라이언트는 받은 버전이 마지막 버전 + 1 이 아니면 스냅샷(/api/approvals/{requestId}/snapshot)으로 전체 재동기화
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalLineChangeDTO {
+    private Long purchaseRequestId;
+    private Long version;
+    private String changeType;       // CREATED: 결재선 생성, UPDATED: 결재 처리
+    private LocalDateTime changedAt;
+    private List<LineChange> lines;  // 변경된 결재선
+
+    /**
+     * 변경된 결재선 정보
+     */
+    @Getter @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineChange {
+        private Long id;
+        private Integer step;
+        private Long approverId;
+        private String statusCode;   // 예: 'APPROVED'
+        private LocalDateTime approvedAt;
+        private String comment;
+    }
+}
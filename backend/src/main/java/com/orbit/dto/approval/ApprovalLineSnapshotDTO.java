@@ -0,0 +1,18 @@
+package com.orbit.dto.approval;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 결재선 전체 스냅샷 (버전 누락 시 재동기화용)
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalLineSnapshotDTO {
+    private Long purchaseRequestId;
+    private Long version;
+    private List<ApprovalLineResponseDTO> lines;
+}
@@ -94,6 +94,58 @@ public class DeliveryDto {
         }
     }
 
+    /**
+     * 송장 미발행 입고 응답 DTO (공급자, 계약번호 포함)
+     * - DeliveryRepository.findUninvoicedWithContracts 의 프로젝션 결과
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UninvoicedResponse {
+        private Long id;
+        private String deliveryNumber;            // 입고번호
+        private String orderNumber;               // 발주번호
+        private String contractNumber;            // 계약번호
+        private Long supplierId;                  // 공급업체 ID
+        private String supplierName;              // 공급업체명
+        private String supplierUserName;          // 공급자 로그인 ID
+        private String supplierContactPerson;     // 공급자 담당자명
+        private String supplierEmail;             // 공급자 이메일
+        private String supplierPhone;             // 공급자 연락처
+        private String supplierAddress;           // 공급자 주소
+        private String itemName;                  // 품목명
+        private Integer itemQuantity;             // 수량
+        private BigDecimal totalAmount;           // 총 금액
+        private Boolean invoiceIssued;            // 송장 발행 여부
+
+        /**
+         * JPQL 생성자 표현식용 생성자 (주소는 도로명 + 상세주소로 조합)
+         */
+        public UninvoicedResponse(Long id, String deliveryNumber, String orderNumber, String contractNumber,
+                                  Long supplierId, String supplierName, String supplierUserName,
+                                  String supplierContactPerson, String supplierEmail, String supplierPhone,
+                                  String roadAddress, String detailAddress, String itemName,
+                                  Integer itemQuantity, BigDecimal totalAmount, Boolean invoiceIssued) {
+            this.id = id;
+            this.deliveryNumber = deliveryNumber;
+            this.orderNumber = orderNumber;
+            this.contractNumber = contractNumber;
+            this.supplierId = supplierId;
+            this.supplierName = supplierName;
+            this.supplierUserName = supplierUserName;
+            this.supplierContactPerson = supplierContactPerson;
+            this.supplierEmail = supplierEmail;
+            this.supplierPhone = supplierPhone;
+            this.supplierAddress = roadAddress == null ? ""
+                    : detailAddress == null ? roadAddress : roadAddress + " " + detailAddress;
+            this.itemName = itemName;
+            this.itemQuantity = itemQuantity;
+            this.totalAmount = totalAmount;
+            this.invoiceIssued = invoiceIssued;
+        }
+    }
+
     /**
      * 입고 검색 조건 DTO
      */
@@ -102,6 +154,7 @@ public class DeliveryDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class SearchCondition {
+        private String keyword;                   // 통합 검색어 (입고번호, 발주번호, 공급업체명, 품목명)
         private String deliveryNumber;            // 입고번호
         private String orderNumber;               // 발주번호
         private Long supplierId;                  // 공급업체 ID
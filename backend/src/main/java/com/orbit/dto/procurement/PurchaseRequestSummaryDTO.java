@@ -0,0 +1,111 @@
+package com.orbit.dto.procurement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+
+/**
+ * 구매 요청 목록 요약 (JPQL 생성자 조회 결과)
+ * - 목록 화면에 필요한 컬럼만 조회하며 본문(LOB) 컬럼은 포함하지 않음
+ * - 요청 유형별 조회에서는 해당 유형의 일자/금액 컬럼을 함께 조회
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PurchaseRequestSummaryDTO {
+
+    private final Long id;
+    private final String requestType; // SI, MAINTENANCE, GOODS
+    private final String requestName;
+    private final String requestNumber;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private final LocalDate requestDate;
+
+    private final String status; // 상태 코드 (PURCHASE_REQUEST-STATUS-REQUESTED)
+    private final String customer;
+    private final String businessDepartment;
+    private final String businessManager;
+    private final BigDecimal businessBudget;
+    private final Long projectId;
+    private final String projectName;
+    private final Long memberId;
+    private final String memberName;
+
+    // SI
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate projectStartDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate projectEndDate;
+
+    // 유지보수
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate contractStartDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate contractEndDate;
+
+    private BigDecimal contractAmount;
+
+    /**
+     * 공통 컬럼 (전체 유형 조회, 물품 요청 조회)
+     */
+    public PurchaseRequestSummaryDTO(Long id, String requestType, String requestName, String requestNumber,
+                                     LocalDate requestDate, String statusParentCode, String statusChildCode,
+                                     String customer, String businessDepartment, String businessManager,
+                                     BigDecimal businessBudget, Long projectId, String projectName,
+                                     Long memberId, String memberName) {
+        this.id = id;
+        this.requestType = requestType;
+        this.requestName = requestName;
+        this.requestNumber = requestNumber;
+        this.requestDate = requestDate;
+        this.status = statusParentCode == null ? null : statusParentCode + "-" + statusChildCode;
+        this.customer = customer;
+        this.businessDepartment = businessDepartment;
+        this.businessManager = businessManager;
+        this.businessBudget = businessBudget;
+        this.projectId = projectId;
+        this.projectName = projectName;
+        this.memberId = memberId;
+        this.memberName = memberName;
+    }
+
+    /**
+     * SI 요청 조회
+     */
+    public PurchaseRequestSummaryDTO(Long id, String requestType, String requestName, String requestNumber,
+                                     LocalDate requestDate, String statusParentCode, String statusChildCode,
+                                     String customer, String businessDepartment, String businessManager,
+                                     BigDecimal businessBudget, Long projectId, String projectName,
+                                     Long memberId, String memberName,
+                                     LocalDate projectStartDate, LocalDate projectEndDate) {
+        this(id, requestType, requestName, requestNumber, requestDate, statusParentCode, statusChildCode,
+                customer, businessDepartment, businessManager, businessBudget, projectId, projectName,
+                memberId, memberName);
+        this.projectStartDate = projectStartDate;
+        this.projectEndDate = projectEndDate;
+    }
+
+    /**
+     * 유지보수 요청 조회
+     */
+    public PurchaseRequestSummaryDTO(Long id, String requestType, String requestName, String requestNumber,
+                                     LocalDate requestDate, String statusParentCode, String statusChildCode,
+                                     String customer, String businessDepartment, String businessManager,
+                                     BigDecimal businessBudget, Long projectId, String projectName,
+                                     Long memberId, String memberName,
+                                     LocalDate contractStartDate, LocalDate contractEndDate,
+                                     BigDecimal contractAmount) {
+        this(id, requestType, requestName, requestNumber, requestDate, statusParentCode, statusChildCode,
+                customer, businessDepartment, businessManager, businessBudget, projectId, projectName,
+                memberId, memberName);
+        this.contractStartDate = contractStartDate;
+        this.contractEndDate = contractEndDate;
+        this.contractAmount = contractAmount;
+    }
+}
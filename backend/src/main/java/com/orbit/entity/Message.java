@@ -9,9 +9,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -20,12 +24,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 /**
  * 메시지 엔티티
  */
 @Entity
 @Getter @Setter
-@Table(name = "message")
+@Table(name = "message", indexes = {
+        // 대화별 메시지 이력 커서 조회
+        @Index(name = "idx_message_sender_receiver_reg", columnList = "sender_id, receiver_id, reg_time"),
+        // 대화별 읽지 않은 메시지 수 초기화
+        @Index(name = "idx_message_receiver_read", columnList = "receiver_id, is_read, sender_id")
+})
 @Builder
 @NoArgsConstructor  // @Builder 사용 시 @AllArgsConstructor 필수
 @AllArgsConstructor
@@ -33,7 +44,8 @@ import lombok.Setter;
 public class Message extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_seq_gen")
+    @SequenceGenerator(name = "message_seq_gen", sequenceName = "message_seq", allocationSize = 50) // 배치 INSERT
     @Column(name = "msg_id")
     private Long id;
 
@@ -73,6 +85,29 @@ public class Message extends BaseEntity {
     @Column(name = "edited_content")
     private String editedContent;
 
+    // 쓰기 지연 저장 시 전송 시각/발신자 (저장 시점의 감사 값 대신 사용, 컬럼 아님)
+    @Transient
+    private LocalDateTime sentAt;
+
+    @Transient
+    private String sentBy;
+
+    /**
+     * 전송 시각/발신자로 등록 정보 설정
+     * - 엔티티 리스너(AuditingEntityListener)가 저장 시각과 빈 등록자를 채운 뒤 호출되므로 그 값을 덮어씀
+     */
+    @PrePersist
+    void applySentValues() {
+        if (sentAt != null) {
+            setRegTime(sentAt);
+            setUpdateTime(sentAt);
+        }
+        if (sentBy != null) {
+            setCreatedBy(sentBy);
+            setModifiedBy(sentBy);
+        }
+    }
+
 //    public Message() {}
 //
 //    // 생성자 추가
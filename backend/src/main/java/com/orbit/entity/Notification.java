@@ -3,19 +3,24 @@ package com.orbit.entity;
 import java.time.LocalDateTime;
 
 import com.orbit.entity.member.Member;
+import com.orbit.event.listener.NotificationEntityListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,7 +32,17 @@ import lombok.Setter;
  * - 사용자에게 전달되는 알림을 관리
  */
 @Entity
-@Table(name = "notifications")
+@EntityListeners(NotificationEntityListener.class) // 읽지 않은 알림 카운터 갱신
+@Table(name = "notifications", indexes = {
+        // 알림 피드 (user_id, created_at, id) 커서 조회
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id"),
+        // 읽지 않은 알림 피드/건수
+        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at, id"),
+        // 유형/관련 엔티티별 조회, 보존 기간 경과 알림 조회
+        @Index(name = "idx_notifications_type_created", columnList = "type, created_at"),
+        @Index(name = "idx_notifications_related_created", columnList = "related_id, created_at"),
+        @Index(name = "idx_notifications_created", columnList = "created_at, id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,7 +50,8 @@ import lombok.Setter;
 public class Notification {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_gen")
+    @SequenceGenerator(name = "notification_seq_gen", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
     
     // 수신자 관계
@@ -66,6 +82,10 @@ public class Notification {
     // 생성일시
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    // 조회 시점의 읽음 여부 (읽음 상태 변경 감지용, 저장하지 않음)
+    @Transient
+    private Boolean readOnLoad;
     
     /**
      * 알림 유형 열거형
@@ -0,0 +1,65 @@
+package com.orbit.entity;
+
+import java.time.LocalDateTime;
+
+import com.orbit.entity.Notification.NotificationType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 보관 알림 엔티티
+ * - 보존 기간이 지난 알림을 notifications 에서 옮겨 보관 (ID 는 원본 알림 ID 유지)
+ * - 회원과의 연관관계 없이 user_id 만 보관
+ * - 조회는 보관 알림 API 로만 제공
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = {
+        @Index(name = "idx_notifications_archive_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_notifications_archive_related", columnList = "related_id, created_at")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "title", nullable = false, length = 255)
+    private String title;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean isRead;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // 보관 시각
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
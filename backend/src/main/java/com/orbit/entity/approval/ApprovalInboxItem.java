@@ -0,0 +1,87 @@
+package com.orbit.entity.approval;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 결재함 항목 (결재자별 결재 대기/완료 목록의 물리화 테이블)
+ * - 결재선 상태가 바뀔 때 ApprovalInboxService 가 함께 갱신
+ * - 결재함 조회와 건수 집계는 이 테이블만 사용 (회원/공통코드 조인 없음)
+ * - 기존 결재선을 INSERT ... SELECT 로 적재할 수 있도록 IDENTITY 키를 사용
+ */
+@Entity
+@Table(name = "approval_inbox",
+        indexes = @Index(name = "idx_approval_inbox_box", columnList = "approver_id, box, updated_at, id"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalInboxItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "approval_line_id", nullable = false, unique = true)
+    private Long approvalLineId;
+
+    @Column(name = "approver_id", nullable = false)
+    private Long approverId;
+
+    @Column(name = "purchase_request_id", nullable = false)
+    private Long purchaseRequestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "box", nullable = false, length = 20)
+    private Box box;
+
+    private Integer step;
+
+    @Column(name = "status_code", length = 50)
+    private String statusCode;
+
+    @Column(name = "status_name", length = 100)
+    private String statusName;
+
+    private LocalDateTime approvedAt;
+
+    private String comment;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 결재함 구분
+     */
+    public enum Box {
+        PENDING,    // 결재 대기 (IN_REVIEW, PENDING)
+        COMPLETED;  // 결재 완료 (APPROVED, REJECTED)
+
+        /**
+         * 결재선 상태 코드에 해당하는 결재함 (결재함에 표시하지 않는 상태는 null)
+         */
+        public static Box of(String statusCode) {
+            if ("IN_REVIEW".equals(statusCode) || "PENDING".equals(statusCode)) {
+                return PENDING;
+            }
+            if ("APPROVED".equals(statusCode) || "REJECTED".equals(statusCode)) {
+                return COMPLETED;
+            }
+            return null;
+        }
+    }
+}
@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class ApprovalLine {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_line_seq_gen")
+    @SequenceGenerator(name = "approval_line_seq_gen", sequenceName = "approval_lines_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,6 +45,16 @@ public class ApprovalLine {
     private LocalDateTime approvedAt;
     private String comment;
 
+    // 결재 차례가 된 시각 (IN_REVIEW 진입, SLA 측정 기준)
+    private LocalDateTime reviewStartedAt;
+
+    // SLA 알림/에스컬레이션 발송 시각 (조건부 UPDATE 로만 기록, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime slaRemindedAt;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime slaEscalatedAt;
+
     // 결재 처리 메서드
     public void approve(String comment, ChildCode approvedStatus) {
         this.status = approvedStatus;
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.orbit.entity.member.Member;
+import com.orbit.event.listener.OrgChartEntityListener;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -22,6 +23,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(OrgChartEntityListener.class) // 조직도 색인(OrgChartIndex) 갱신
 @Table(name = "department")
 @Getter
 @Setter
@@ -13,8 +13,8 @@ import com.orbit.entity.commonCode.StatusHistory;
 import com.orbit.entity.member.Member;
 import com.orbit.entity.procurement.PurchaseRequest;
 import com.orbit.entity.procurement.PurchaseRequestItem;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationOutbox;
 import com.orbit.util.PriceCalculator;
 
 import jakarta.persistence.CascadeType;
@@ -241,7 +241,7 @@ public class Bidding extends BaseEntity {
    /**
     * 공급사 초대 추가 + 알림 발송
     */
-   public BiddingSupplier inviteSupplier(Long supplierId, MemberRepository memberRepo, NotificationRepository notificationRepo) {
+   public BiddingSupplier inviteSupplier(Long supplierId, MemberRepository memberRepo, NotificationOutbox notificationOutbox) {
        // 이미 초대했는지 확인
        boolean alreadyInvited = suppliers.stream()
            .anyMatch(s -> s.getSupplierId().equals(supplierId));
@@ -269,7 +269,7 @@ public class Bidding extends BaseEntity {
                    "입찰 공고 '" + this.title + "'에 참여 요청이 왔습니다. 확인해주세요.",
                    this.id
                );
-               notificationRepo.save(notification);
+               notificationOutbox.enqueue(notification);
                
                // 알림 발송 처리 완료
                supplier.setNotificationSent(true);
@@ -315,10 +315,10 @@ public class Bidding extends BaseEntity {
     * @param reason 변경 사유
     * @param changedById 변경자 ID
     * @param memberRepo 멤버 레포지토리
-    * @param notificationRepo 알림 레포지토리
+    * @param notificationOutbox 알림 아웃박스
     */
    public void changeStatus(ChildCode newStatus, String reason, Long changedById, 
-                           MemberRepository memberRepo, NotificationRepository notificationRepo) {
+                           MemberRepository memberRepo, NotificationOutbox notificationOutbox) {
        // 상태 변경 전 현재 상태 저장
        ChildCode oldStatus = this.statusChild;
        
@@ -345,7 +345,7 @@ public class Bidding extends BaseEntity {
                sendStatusChangeNotifications(
                    "입찰 공고 시작",
                    "입찰 공고 '" + this.title + "'이 시작되었습니다.",
-                   memberRepo, notificationRepo
+                   memberRepo, notificationOutbox
                );
            }
            // 입찰 공고가 '마감'으로 변경된 경우 - 공급사에게 알림
@@ -353,7 +353,7 @@ public class Bidding extends BaseEntity {
                sendStatusChangeNotifications(
                    "입찰 공고 마감",
                    "입찰 공고 '" + this.title + "'이 마감되었습니다.",
-                   memberRepo, notificationRepo
+                   memberRepo, notificationOutbox
                );
            }
        } catch (Exception e) {
@@ -366,7 +366,7 @@ public class Bidding extends BaseEntity {
     * 상태 변경 알림 발송 헬퍼 메서드
     */
    private void sendStatusChangeNotifications(String title, String content,
-                                          MemberRepository memberRepo, NotificationRepository notificationRepo) {
+                                          MemberRepository memberRepo, NotificationOutbox notificationOutbox) {
        // 초대된 모든 공급사에게 알림 발송
        for (BiddingSupplier supplier : suppliers) {
            Member supplierMember = memberRepo.findById(supplier.getSupplierId()).orElse(null);
@@ -374,7 +374,7 @@ public class Bidding extends BaseEntity {
                Notification notification = Notification.createBiddingNotification(
                    supplierMember, title, content, this.id
                );
-               notificationRepo.save(notification);
+               notificationOutbox.enqueue(notification);
            }
        }
        
@@ -390,7 +390,7 @@ public class Bidding extends BaseEntity {
                    Notification notification = Notification.createBiddingNotification(
                        participantMember, title, content, this.id
                    );
-                   notificationRepo.save(notification);
+                   notificationOutbox.enqueue(notification);
                }
            }
        }
@@ -400,7 +400,7 @@ public class Bidding extends BaseEntity {
      * 평가 추가 + 알림 발송
      */
     public BiddingEvaluation addEvaluation(BiddingParticipation participation, Long evaluatorId,
-                                    MemberRepository memberRepo, NotificationRepository notificationRepo) {
+                                    MemberRepository memberRepo, NotificationOutbox notificationOutbox) {
         // 평가 생성
         BiddingEvaluation evaluation = BiddingEvaluation.builder()
             .biddingId(this.id)
@@ -427,7 +427,7 @@ public class Bidding extends BaseEntity {
                     "입찰 공고 '" + this.title + "'에 대한 평가가 시작되었습니다.",
                     evaluation.getId()
                 );
-                notificationRepo.save(notification);
+                notificationOutbox.enqueue(notification);
             }
         } catch (Exception e) {
             // 알림 발송 실패 (로깅 필요)
@@ -443,7 +443,7 @@ public class Bidding extends BaseEntity {
      * 관리자가 명시적으로 낙찰자를 선정하는 메서드
      */
     public void selectBidder(BiddingParticipation participation, BiddingEvaluation evaluation,
-                            MemberRepository memberRepo, NotificationRepository notificationRepo) {
+                            MemberRepository memberRepo, NotificationOutbox notificationOutbox) {
         // 이미 낙찰된 업체가 있는지 확인
         boolean hasSelectedBidder = evaluations.stream()
             .anyMatch(e -> e.isSelectedBidder() && !e.getId().equals(evaluation.getId()));
@@ -456,7 +456,7 @@ public class Bidding extends BaseEntity {
         }
         
         // 새로운 낙찰자 상태 변경
-        evaluation.selectAsBidder(notificationRepo, memberRepo);
+        evaluation.selectAsBidder(notificationOutbox, memberRepo);
         
         // 알림 발송
         try {
@@ -469,7 +469,7 @@ public class Bidding extends BaseEntity {
                     "입찰 공고 '" + this.title + "'에서 귀사가 낙찰자로 선정되었습니다. 계약 절차가 곧 진행될 예정입니다.",
                     this.id
                 );
-                notificationRepo.save(notification);
+                notificationOutbox.enqueue(notification);
             }
             
             // 다른 참여자들에게도 알림 발송
@@ -483,7 +483,7 @@ public class Bidding extends BaseEntity {
                             "입찰 공고 '" + this.title + "'의 낙찰자가 선정되었습니다.",
                             this.id
                         );
-                        notificationRepo.save(notification);
+                        notificationOutbox.enqueue(notification);
                     }
                 }
             }
@@ -501,7 +501,7 @@ public class Bidding extends BaseEntity {
                         "입찰 공고 '" + this.title + "'의 낙찰자가 선정되었습니다. 계약 초안 생성을 진행해주세요.",
                         this.id
                     );
-                    notificationRepo.save(notification);
+                    notificationOutbox.enqueue(notification);
                 }
             }
         } catch (Exception e) {
@@ -527,7 +527,7 @@ public class Bidding extends BaseEntity {
     * 발주 생성 + 알림 발송
     */
    public BiddingOrder createOrder(BiddingParticipation participation, String createdById,
-                               MemberRepository memberRepo, NotificationRepository notificationRepo) {
+                               MemberRepository memberRepo, NotificationOutbox notificationOutbox) {
        // 발주 생성
        BiddingOrder order = BiddingOrder.builder()
            .biddingId(this.id)
@@ -558,7 +558,7 @@ public class Bidding extends BaseEntity {
                    "입찰 공고 '" + this.title + "'에 대한 발주서가 생성되었습니다. 확인해주세요.",
                    order.getId()
                );
-               notificationRepo.save(notification);
+               notificationOutbox.enqueue(notification);
            }
        } catch (Exception e) {
            // 알림 발송 실패 (로깅 필요)
@@ -571,10 +571,10 @@ public class Bidding extends BaseEntity {
    
    /**
      * 계약 초안 생성 + 알림 발송
-     * 공고번호에서 계약번호를 파생하여 일관성 유지
+     * 계약번호는 호출하는 서비스에서 할당 (BiddingNumberService)
      */
     public BiddingContract createContractDraft(BiddingParticipation participation, 
-    MemberRepository memberRepo, NotificationRepository notificationRepo) {
+    MemberRepository memberRepo, NotificationOutbox notificationOutbox) {
     // 참여 정보 확인
     if (participation == null) {
     throw new IllegalArgumentException("참여 정보가 필요합니다.");
@@ -598,17 +598,7 @@ public class Bidding extends BaseEntity {
         // 상태 초기화 (초안 상태로)
         contract.setStatusEnum(BiddingContract.ContractStatus.초안);
 
-        // 계약번호 생성 (공고번호로부터 파생)
-        // BID-YYMMDD-XXX => CNT-YYMMDD-XXX
-        if (this.bidNumber != null && this.bidNumber.startsWith("BID-")) {
-            String contractNumberBase = this.bidNumber.replace("BID-", "CNT-");
-            contract.setTransactionNumber(contractNumberBase);
-        } else {
-            // 예외 처리: 기존 공고번호가 없거나 형식이 다른 경우
-            String datePart = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyMMdd"));
-            String randomPart = String.format("%03d", new java.util.Random().nextInt(1000));
-            contract.setTransactionNumber("CNT-" + datePart + "-" + randomPart);
-        }
+        // 계약번호는 호출하는 서비스에서 BiddingNumberService 로 할당
 
         // 알림 발송
         try {
@@ -621,7 +611,7 @@ public class Bidding extends BaseEntity {
             "입찰 공고 '" + this.title + "'에 대한 계약 초안이 생성되었습니다. 계약 목록에서 확인해주세요.",
             contract.getId()
         );
-            notificationRepo.save(notification);
+            notificationOutbox.enqueue(notification);
         }
 
         // 구매자에게도 알림 (생성자)
@@ -636,7 +626,7 @@ public class Bidding extends BaseEntity {
                     "입찰 공고 '" + this.title + "'에 대한 계약 초안이 생성되었습니다. 계약 목록 페이지에서 세부 정보를 입력해주세요.",
                     contract.getId()
                 );
-                notificationRepo.save(notification);
+                notificationOutbox.enqueue(notification);
             }
         }
         } catch (Exception e) {
@@ -12,8 +12,8 @@ import com.orbit.entity.commonCode.ChildCode;
 import com.orbit.entity.commonCode.ParentCode;
 import com.orbit.entity.commonCode.StatusHistory;
 import com.orbit.entity.member.Member;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationOutbox;
 import com.orbit.util.PriceCalculator;
 
 import jakarta.persistence.CascadeType;
@@ -183,7 +183,7 @@ public class BiddingContract extends BaseEntity {
     /**
      * 구매자 서명
      */
-    public void signByBuyer(String signature, Member buyer, NotificationRepository notificationRepo) {
+    public void signByBuyer(String signature, Member buyer, NotificationOutbox notificationOutbox) {
         this.buyerSignature = signature;
         this.buyerSignedAt = LocalDateTime.now();
         this.updatedBy = buyer;
@@ -197,7 +197,7 @@ public class BiddingContract extends BaseEntity {
                     "계약 '" + this.transactionNumber + "'에 구매자 서명이 완료되었습니다. 공급자 서명을 진행해주세요.",
                     this.id
                 );
-                notificationRepo.save(notification);
+                notificationOutbox.enqueue(notification);
             }
         } catch (Exception e) {
             // 알림 발송 실패 (로깅 필요)
@@ -211,7 +211,7 @@ public class BiddingContract extends BaseEntity {
     /**
      * 공급자 서명
      */
-    public void signBySupplier(String signature, NotificationRepository notificationRepo, MemberRepository memberRepo) {
+    public void signBySupplier(String signature, NotificationOutbox notificationOutbox, MemberRepository memberRepo) {
         this.supplierSignature = signature;
         this.supplierSignedAt = LocalDateTime.now();
         this.updatedBy = supplier;
@@ -230,7 +230,7 @@ public class BiddingContract extends BaseEntity {
                         "계약 '" + this.transactionNumber + "'에 공급자 서명이 완료되었습니다.",
                         this.id
                     );
-                    notificationRepo.save(notification);
+                    notificationOutbox.enqueue(notification);
                 }
             }
         } catch (Exception e) {
@@ -245,7 +245,7 @@ public class BiddingContract extends BaseEntity {
     /**
      * 상태 변경 메서드
      */
-    public void changeStatus(String newStatusValue, String reason, Long changedById, NotificationRepository notificationRepo, MemberRepository memberRepo) {
+    public void changeStatus(String newStatusValue, String reason, Long changedById, NotificationOutbox notificationOutbox, MemberRepository memberRepo) {
         // 상태 변경 전 현재 상태 저장
         ChildCode oldStatus = this.statusChild;
         
@@ -271,7 +271,7 @@ public class BiddingContract extends BaseEntity {
         this.statusHistories.add(history);
         
         // 상태 변경에 따른 알림 발송
-        if (notificationRepo != null) {
+        if (notificationOutbox != null) {
             try {
                 // "진행중" 상태로 변경된 경우 - 공급자에게 알림
                 if (newStatusValue.equals("IN_PROGRESS")) {
@@ -281,7 +281,7 @@ public class BiddingContract extends BaseEntity {
                         "계약 '" + this.transactionNumber + "'이 진행 상태로 변경되었습니다.",
                         this.id
                     );
-                    notificationRepo.save(notification);
+                    notificationOutbox.enqueue(notification);
                 }
                 // "완료" 상태로 변경된 경우 - 양측에 알림
                 else if (newStatusValue.equals("CLOSED")) {
@@ -292,7 +292,7 @@ public class BiddingContract extends BaseEntity {
                         "계약 '" + this.transactionNumber + "'이 모든 서명 절차를 완료하여 체결되었습니다.",
                         this.id
                     );
-                    notificationRepo.save(supplierNotification);
+                    notificationOutbox.enqueue(supplierNotification);
                     
                     // 구매자에게 알림 - 이제 String을 Member로 조회
                     String creatorUsername = getBidding().getCreatedBy();
@@ -305,7 +305,7 @@ public class BiddingContract extends BaseEntity {
                                 "계약 '" + this.transactionNumber + "'이 모든 서명 절차를 완료하여 체결되었습니다.",
                                 this.id
                             );
-                            notificationRepo.save(buyerNotification);
+                            notificationOutbox.enqueue(buyerNotification);
                         }
                     }
                 }
@@ -320,7 +320,7 @@ public class BiddingContract extends BaseEntity {
      * 계약 진행하기 + 알림 발송
      * 초안 상태에서 진행중 상태로 변경
      */
-    public void startContract(Member updatedBy, NotificationRepository notificationRepo, MemberRepository memberRepo) {
+    public void startContract(Member updatedBy, NotificationOutbox notificationOutbox, MemberRepository memberRepo) {
         // 초안 상태가 아니면 진행 불가
         if (!isDraft()) {
             throw new IllegalStateException("초안 상태의 계약만 진행할 수 있습니다.");
@@ -331,7 +331,7 @@ public class BiddingContract extends BaseEntity {
         this.updatedBy = updatedBy;
         
         // 알림 발송
-        if (notificationRepo != null && memberRepo != null) {
+        if (notificationOutbox != null && memberRepo != null) {
             try {
                 // 공급사에게 알림
                 if (this.supplier != null) {
@@ -341,7 +341,7 @@ public class BiddingContract extends BaseEntity {
                         "계약 번호 '" + this.transactionNumber + "'의 계약 진행이 시작되었습니다. 서명을 진행해주세요.",
                         this.id
                     );
-                    notificationRepo.save(notification);
+                    notificationOutbox.enqueue(notification);
                 }
 
                 // 구매자에게도 알림 (생성자)
@@ -356,7 +356,7 @@ public class BiddingContract extends BaseEntity {
                             "계약 번호 '" + this.transactionNumber + "'의 계약 진행이 시작되었습니다. 서명을 진행해주세요.",
                             this.id
                         );
-                        notificationRepo.save(notification);
+                        notificationOutbox.enqueue(notification);
                     }
                 }
             } catch (Exception e) {
@@ -443,9 +443,9 @@ public class BiddingContract extends BaseEntity {
     /**
      * 취소 메서드
      */
-    public void cancel(String reason, Long changedById, NotificationRepository notificationRepo, MemberRepository memberRepo) {
+    public void cancel(String reason, Long changedById, NotificationOutbox notificationOutbox, MemberRepository memberRepo) {
         // 취소 상태로 변경
-        changeStatus("CANCELED", reason, changedById, notificationRepo, memberRepo);
+        changeStatus("CANCELED", reason, changedById, notificationOutbox, memberRepo);
     }
 
     // 상태 관련 헬퍼 메서드
@@ -3,8 +3,8 @@ package com.orbit.entity.bidding;
 import java.time.LocalDateTime;
 
 import com.orbit.entity.BaseEntity;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationOutbox;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -91,7 +91,7 @@ public class BiddingEvaluation extends BaseEntity {
      * 낙찰자로 선정
      * 수정버전: 레포지토리 파라미터를 받도록 수정
      */
-    public void selectAsBidder(NotificationRepository notificationRepo, MemberRepository memberRepo) {
+    public void selectAsBidder(NotificationOutbox notificationOutbox, MemberRepository memberRepo) {
         this.isSelectedBidder = true;
         this.bidderSelectedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,41 @@
+package com.orbit.entity.bidding;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 거래 번호 채번 테이블
+ * - 접두어 + 일자(예: BID-20250101, CNT-250101)별로 다음에 할당할 블록의 시작 값을 관리
+ * - 각 노드는 블록 단위(hi/lo)로 번호를 선점하므로 번호마다 DB를 조회하지 않음
+ */
+@Entity
+@Table(name = "bidding_number_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BiddingNumberSequence {
+
+    // 채번 키 (접두어-일자)
+    @Id
+    @Column(name = "sequence_key", length = 30)
+    private String sequenceKey;
+
+    // 다음 블록의 시작 값
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    // 마지막 블록 할당 일시
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
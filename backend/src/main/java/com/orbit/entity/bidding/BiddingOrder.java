@@ -8,8 +8,8 @@ import com.orbit.entity.BaseEntity;
 import com.orbit.entity.Notification;
 import com.orbit.entity.member.Member;
 import com.orbit.entity.procurement.PurchaseRequestItem;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationOutbox;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -128,14 +128,14 @@ public class BiddingOrder extends BaseEntity {
     /**
      * 발주 승인 + 알림 발송
      */
-    public void approve(Member approver, NotificationRepository notificationRepo, MemberRepository memberRepository) {
+    public void approve(Member approver, NotificationOutbox notificationOutbox, MemberRepository memberRepository) {
         this.approvedAt = LocalDateTime.now();
         this.approvalById = approver.getId();
         this.updatedAt = LocalDateTime.now();
         
         
         // 알림 발송
-        if (notificationRepo != null && memberRepository != null) {
+        if (notificationOutbox != null && memberRepository != null) {
             try {
                 // 공급자에게 알림
                 Member supplier = memberRepository.findById(this.supplierId).orElse(null);
@@ -148,7 +148,7 @@ public class BiddingOrder extends BaseEntity {
                         .relatedId(this.id)
                         .isRead(false)
                         .build();
-                    notificationRepo.save(notification);
+                    notificationOutbox.enqueue(notification);
                 }
 
                 // 생성자에게도 알림 (생성자와 승인자가 다른 경우)
@@ -163,7 +163,7 @@ public class BiddingOrder extends BaseEntity {
                             .relatedId(this.id)
                             .isRead(false)
                             .build();
-                        notificationRepo.save(notification);
+                        notificationOutbox.enqueue(notification);
                     }
                 }
             } catch (Exception e) {
@@ -180,7 +180,7 @@ public class BiddingOrder extends BaseEntity {
     public void updateDeliveryDate(
         LocalDate newDeliveryDate, 
         Member updatedBy,
-        NotificationRepository notificationRepo, 
+        NotificationOutbox notificationOutbox, 
         MemberRepository memberRepository
     ) {
         LocalDate oldDeliveryDate = this.expectedDeliveryDate;
@@ -188,7 +188,7 @@ public class BiddingOrder extends BaseEntity {
         this.updatedAt = LocalDateTime.now();
         
         // 알림 발송
-        if (notificationRepo != null && memberRepository != null) {
+        if (notificationOutbox != null && memberRepository != null) {
             try {
                 // 공급자에게 알림
                 Member supplier = memberRepository.findById(this.supplierId).orElse(null);
@@ -202,7 +202,7 @@ public class BiddingOrder extends BaseEntity {
                         .relatedId(this.id)
                         .isRead(false)
                         .build();
-                    notificationRepo.save(notification);
+                    notificationOutbox.enqueue(notification);
                 }
 
                 // 생성자에게도 알림 (생성자와 변경자가 다른 경우)
@@ -218,7 +218,7 @@ public class BiddingOrder extends BaseEntity {
                         .relatedId(this.id)
                         .isRead(false)
                         .build();
-                        notificationRepo.save(notification);
+                        notificationOutbox.enqueue(notification);
                     }
                 }
 
@@ -235,11 +235,9 @@ public class BiddingOrder extends BaseEntity {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         
-        // 발주번호 자동 생성
+        // 발주번호는 BiddingNumberService 에서 할당 (임의 번호는 중복될 수 있으므로 생성하지 않음)
         if (this.orderNumber == null) {
-            String datePart = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyMMdd"));
-            String randomPart = String.format("%03d", new java.util.Random().nextInt(1000));
-            this.orderNumber = "ORD-" + datePart + "-" + randomPart;
+            throw new IllegalStateException("발주번호가 할당되지 않았습니다.");
         }
         
     }
@@ -4,7 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import com.orbit.entity.BaseEntity;
-import com.orbit.repository.NotificationRepository;
+import com.orbit.service.NotificationOutbox;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,7 +32,8 @@ import lombok.Setter;
 @Builder
 public class BiddingParticipation extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bidding_participation_seq_gen")
+    @SequenceGenerator(name = "bidding_participation_seq_gen", sequenceName = "bidding_participations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -93,7 +95,7 @@ public class BiddingParticipation extends BaseEntity {
     /**
      * 평가 완료 상태 설정 + 알림 발송
      */
-    public void updateEvaluationStatus(boolean evaluated, Integer score, NotificationRepository notificationRepo) {
+    public void updateEvaluationStatus(boolean evaluated, Integer score, NotificationOutbox notificationOutbox) {
         this.isEvaluated = evaluated;
         
         if (score != null) {
@@ -101,7 +103,7 @@ public class BiddingParticipation extends BaseEntity {
         }
         
         // 알림 발송
-        if (notificationRepo != null) {
+        if (notificationOutbox != null) {
             try {
                 // Member 객체를 직접 조회하는 방식
                 // 이 메서드는 서비스 레이어에서 MemberRepository를 주입받아 사용해야 함
@@ -118,7 +120,7 @@ public class BiddingParticipation extends BaseEntity {
                             "입찰 공고 '" + bidding.getTitle() + "'에 대한 평가가 완료되었습니다.",
                             this.id
                         );
-                        notificationRepo.save(notification);
+                        notificationOutbox.enqueue(notification);
                     }
                     */
                     
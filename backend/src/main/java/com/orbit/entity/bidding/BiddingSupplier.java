@@ -5,8 +5,8 @@ import java.time.LocalDateTime;
 import com.orbit.entity.BaseEntity;
 import com.orbit.entity.Notification;
 import com.orbit.entity.member.Member;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationOutbox;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -80,13 +80,13 @@ public class BiddingSupplier extends BaseEntity {
     /**
      * 알림 발송 처리 + 알림 발송
      */
-    public void sendNotification(NotificationRepository notificationRepo, MemberRepository memberRepo, String title, String content) {
+    public void sendNotification(NotificationOutbox notificationOutbox, MemberRepository memberRepo, String title, String content) {
         // 알림 발송 기록
         this.notificationSent = true;
         this.notificationDate = LocalDateTime.now();
         
         // 실제 알림 발송
-        if (notificationRepo != null && memberRepo != null) {
+        if (notificationOutbox != null && memberRepo != null) {
             try {
                 Member supplier = memberRepo.findById(this.supplierId).orElse(null);
                 if (supplier != null) {
@@ -98,7 +98,7 @@ public class BiddingSupplier extends BaseEntity {
                         .relatedId(this.biddingId)
                         .isRead(false)
                         .build();
-                    notificationRepo.save(notification);
+                    notificationOutbox.enqueue(notification);
                 }
             } catch (Exception e) {
                 // 알림 발송 실패 (로깅 필요)
@@ -112,12 +112,12 @@ public class BiddingSupplier extends BaseEntity {
     /**
      * 참여 처리 + 알림 발송
      */
-    public void participate(NotificationRepository notificationRepo, MemberRepository memberRepo) {
+    public void participate(NotificationOutbox notificationOutbox, MemberRepository memberRepo) {
         this.isParticipating = true;
         this.participationDate = LocalDateTime.now();
         
         // 알림 발송 (구매자에게)
-        if (notificationRepo != null && memberRepo != null && bidding != null) {
+        if (notificationOutbox != null && memberRepo != null && bidding != null) {
             try {
                 String creatorUsername = bidding.getCreatedBy();
                 if (creatorUsername != null && !creatorUsername.isEmpty()) {
@@ -131,7 +131,7 @@ public class BiddingSupplier extends BaseEntity {
                         .relatedId(this.biddingId)
                         .isRead(false)
                         .build();
-                        notificationRepo.save(notification);
+                        notificationOutbox.enqueue(notification);
                     }
                 }
             } catch (Exception e) {
@@ -144,13 +144,13 @@ public class BiddingSupplier extends BaseEntity {
     /**
      * 참여 거부 처리 + 알림 발송
      */
-    public void reject(String reason, NotificationRepository notificationRepo, MemberRepository memberRepo) {
+    public void reject(String reason, NotificationOutbox notificationOutbox, MemberRepository memberRepo) {
         this.isRejected = true;
         this.rejectionDate = LocalDateTime.now();
         this.rejectionReason = reason;
         
         // 알림 발송 (구매자에게)
-        if (notificationRepo != null && memberRepo != null && bidding != null) {
+        if (notificationOutbox != null && memberRepo != null && bidding != null) {
             try {
                 String creatorUsername = bidding.getCreatedBy();
                 if (creatorUsername != null && !creatorUsername.isEmpty()) {
@@ -164,7 +164,7 @@ public class BiddingSupplier extends BaseEntity {
                             .relatedId(this.biddingId)
                             .isRead(false)
                             .build();
-                        notificationRepo.save(notification);
+                        notificationOutbox.enqueue(notification);
                     }
                 }
             } catch (Exception e) {
@@ -16,6 +16,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,7 +37,8 @@ import lombok.Setter;
 public class StatusHistory extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_history_seq_gen")
+    @SequenceGenerator(name = "status_history_seq_gen", sequenceName = "status_histories_seq", allocationSize = 50)
     private Long id;
     
     // 엔티티 타입 (어떤 종류의 엔티티 상태가 변경되었는지)
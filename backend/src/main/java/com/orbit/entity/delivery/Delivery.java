@@ -25,7 +25,8 @@ import java.time.format.DateTimeFormatter;
 public class Delivery extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "delivery_seq_gen")
+    @SequenceGenerator(name = "delivery_seq_gen", sequenceName = "deliveries_seq", allocationSize = 50)
     private Long id;
 
     // 입고 번호 (자동 생성)
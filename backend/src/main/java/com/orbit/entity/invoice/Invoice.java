@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "invoices")
+@Table(name = "invoices",
+        indexes = @Index(name = "idx_invoices_status_due_date", columnList = "status_child_code, due_date"))
 public class Invoice {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -14,9 +14,11 @@ import com.orbit.dto.member.MemberFormDto;
 import com.orbit.entity.approval.ApprovalLine;
 import com.orbit.entity.approval.Department;
 import com.orbit.entity.approval.Position;
+import com.orbit.event.listener.OrgChartEntityListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -46,6 +48,7 @@ import lombok.Setter;
  * - 주소 정보 포함
  */
 @Entity
+@EntityListeners(OrgChartEntityListener.class) // 조직도 색인(OrgChartIndex) 갱신
 @Table(name = "members")
 @Getter
 @Setter
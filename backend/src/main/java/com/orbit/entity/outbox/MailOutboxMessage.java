@@ -0,0 +1,124 @@
+package com.orbit.entity.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 메일 아웃박스 엔티티
+ * - 업무 트랜잭션 커밋 이후 저장되고, MailOutbox 의 발송 스레드가 트랜잭션 밖에서 SMTP 로 발송
+ * - 발송 중(SENDING)인 메일의 next_attempt_at 은 선점 만료 시각 (노드 장애 시 만료 후 다시 발송)
+ */
+@Entity
+@Table(name = "mail_outbox",
+        indexes = {
+                @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at, id")
+        })
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 수신자 이메일 주소
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    // 수신자 도메인 (도메인별 발송 속도 제한 기준)
+    @Column(name = "recipient_domain", nullable = false)
+    private String recipientDomain;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    // 처리 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private MailStatus status = MailStatus.PENDING;
+
+    // 발송 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 다음 발송 시도 시각 (발송 중이면 선점 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 발송 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 처리 상태 열거형
+     */
+    public enum MailStatus {
+        PENDING,    // 발송 대기
+        SENDING,    // 발송 중 (선점됨)
+        SENT,       // 발송 완료
+        FAILED      // 재시도 한도 초과
+    }
+
+    /**
+     * 발송 완료 처리
+     */
+    public void markSent() {
+        this.status = MailStatus.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 처리 (재시도 한도를 넘으면 FAILED)
+     */
+    public void markFailed(LocalDateTime nextAttemptAt, int maxAttempts, String error) {
+        this.attempts = this.attempts + 1;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.status = this.attempts >= maxAttempts ? MailStatus.FAILED : MailStatus.PENDING;
+    }
+
+    /**
+     * 발송 연기 (도메인 발송 속도 제한, 시도 횟수는 늘리지 않음)
+     */
+    public void defer(LocalDateTime nextAttemptAt) {
+        this.status = MailStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.orbit.entity.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 아웃박스 이벤트 엔티티
+ * - 업무 데이터와 같은 트랜잭션에서 기록되고, 커밋 이후 OutboxRelay 가 비동기로 전달
+ * - INSERT ... SELECT 로 대량 적재할 수 있도록 IDENTITY 키를 사용
+ * - 같은 유형/집합체의 이벤트는 id 순서대로 전달됨
+ */
+@Entity
+@Table(name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_status_next", columnList = "status, next_attempt_at, id"),
+                @Index(name = "idx_outbox_events_aggregate", columnList = "event_type, aggregate_id, id")
+        })
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 유형 (예: INVOICE_OVERDUE, PURCHASE_REQUEST_STATUS_CHANGED)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    // 대상 집합체 ID (송장 ID, 구매요청 ID 등)
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 전달할 내용 (JSON, 선택)
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    // 처리 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // 전달 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 다음 전달 시도 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * 처리 상태 열거형
+     */
+    public enum OutboxStatus {
+        PENDING,    // 전달 대기
+        SENT,       // 전달 완료
+        FAILED      // 재시도 한도 초과
+    }
+
+    /**
+     * 전달 완료 처리
+     */
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 전달 실패 처리 (재시도 한도를 넘으면 FAILED)
+     */
+    public void markFailed(LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts = this.attempts + 1;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        }
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
@@ -5,9 +5,11 @@ import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Lob;
 import jakarta.validation.constraints.Positive;
 import lombok.Getter;
@@ -29,7 +31,9 @@ public class MaintenanceRequest extends PurchaseRequest {
     @Column(precision = 19, scale = 2)
     private BigDecimal contractAmount;
 
+    // 목록 조회에서는 읽지 않도록 지연 로딩 (상세 조회에서 접근 시 조회)
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(length = 2000)
     private String contractDetails;
 }
\ No newline at end of file
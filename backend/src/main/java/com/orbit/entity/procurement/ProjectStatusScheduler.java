@@ -5,37 +5,66 @@ import com.orbit.entity.commonCode.ParentCode;
 import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.procurement.ProjectRepository;
-import lombok.RequiredArgsConstructor;
+import com.orbit.service.scheduler.SchedulerLockService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * 프로젝트 상태 자동 갱신 스케줄러
+ * - 매일 자정 한 번, 클러스터에서 한 노드만 실행 (스케줄러 잠금)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProjectStatusScheduler {
 
+    private static final String LOCK_NAME = "project-status-update";
+
     private final ProjectRepository projectRepository;
     private final ParentCodeRepository parentCodeRepository;
     private final ChildCodeRepository childCodeRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProjectStatusScheduler(ProjectRepository projectRepository,
+                                  ParentCodeRepository parentCodeRepository,
+                                  ChildCodeRepository childCodeRepository,
+                                  SchedulerLockService schedulerLockService,
+                                  PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.parentCodeRepository = parentCodeRepository;
+        this.childCodeRepository = childCodeRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-    // 매일 자정에 실행
+    // 매일 자정에 실행 (잠금을 해제하기 전에 변경을 커밋)
     @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
     public void updateProjectStatuses() {
-        LocalDate today = LocalDate.now();
+        if (!schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10))) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
 
-        log.info("프로젝트 상태 자동 업데이트 스케줄러 실행: {}", today);
+            log.info("프로젝트 상태 자동 업데이트 스케줄러 실행: {}", today);
 
-        // 1. 시작일이 오늘인 프로젝트를 '진행중' 상태로 변경
-        updateProjectsToInProgress(today);
+            transactionTemplate.executeWithoutResult(status -> {
+                // 1. 시작일이 오늘인 프로젝트를 '진행중' 상태로 변경
+                updateProjectsToInProgress(today);
 
-        // 2. 종료일이 오늘인 프로젝트를 '완료' 상태로 변경
-        updateProjectsToCompleted(today);
+                // 2. 종료일이 오늘인 프로젝트를 '완료' 상태로 변경
+                updateProjectsToCompleted(today);
+            });
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
     }
 
     private void updateProjectsToInProgress(LocalDate today) {
@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -29,7 +30,9 @@ import lombok.Setter;
 
 @Entity
 @Getter @Setter
-@Table(name = "purchase_requests")
+@Table(name = "purchase_requests",
+        indexes = @Index(name = "idx_purchase_requests_type_date",
+                columnList = "request_type, request_date, purchase_request_id"))
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "request_type")
 public abstract class PurchaseRequest {
@@ -80,6 +83,11 @@ public abstract class PurchaseRequest {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    // 결재선 변경 버전 (결재선 변경 이벤트마다 DB 에서 1씩 증가, 엔티티 저장 시에는 갱신하지 않음)
+    @Column(name = "approval_version", nullable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long approvalVersion = 0L;
+
     @OneToMany(mappedBy = "purchaseRequest", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PurchaseRequestAttachment> attachments = new ArrayList<>();
 
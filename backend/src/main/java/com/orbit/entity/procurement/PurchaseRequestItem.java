@@ -18,6 +18,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -36,7 +37,8 @@ import lombok.Setter;
 public class PurchaseRequestItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_request_item_seq_gen")
+    @SequenceGenerator(name = "purchase_request_item_seq_gen", sequenceName = "purchase_request_items_seq", allocationSize = 50)
     @Column(name = "purchase_request_item_id") // ID 컬럼 이름 변경
     private Long id;
 
@@ -4,9 +4,11 @@ import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Lob;
 import lombok.Getter;
 import lombok.Setter;
@@ -25,7 +27,9 @@ public class SIRequest extends PurchaseRequest {
     @Column(name = "project_end_date") // 컬럼 추가
     private LocalDate projectEndDate;
 
+    // 목록 조회에서는 읽지 않도록 지연 로딩 (상세 조회에서 접근 시 조회)
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "project_content", length = 2000) // 컬럼 추가
     private String projectContent;
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.orbit.entity.scheduler;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 스케줄러 잠금 엔티티
+ * - 여러 노드에서 같은 스케줄 작업이 동시에 실행되지 않도록 작업 이름별 잠금 만료 시각을 관리
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    // 작업 이름
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String lockName;
+
+    // 잠금 만료 시각 (이 시각 이후에는 다른 노드가 획득 가능)
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // 잠금 획득 시각
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    // 잠금을 획득한 노드
+    @Column(name = "locked_by", nullable = false, length = 255)
+    private String lockedBy;
+}
@@ -0,0 +1,64 @@
+package com.orbit.entity.search;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 검색용 n-gram 토큰 엔티티
+ * - 입고/송장의 번호, 공급업체명, 품목명을 2-gram 토큰으로 분해하여 저장
+ * - LIKE '%검색어%' 전체 스캔 대신 (doc_type, token) 인덱스로 후보 문서를 찾음
+ */
+@Entity
+@Table(name = "search_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_tokens_doc_token", columnNames = {"doc_type", "doc_id", "token"}),
+        indexes = @Index(name = "idx_search_tokens_lookup", columnList = "doc_type, token, doc_id"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "search_token_seq_gen")
+    @SequenceGenerator(name = "search_token_seq_gen", sequenceName = "search_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    // 문서 유형
+    @Enumerated(EnumType.STRING)
+    @Column(name = "doc_type", nullable = false, length = 20)
+    private DocumentType docType;
+
+    // 문서 ID (입고 ID, 송장 ID)
+    @Column(name = "doc_id", nullable = false)
+    private Long docId;
+
+    // 2-gram 토큰 (소문자, 공백 제거)
+    @Column(name = "token", nullable = false, length = 8)
+    private String token;
+
+    // 순위 가중치 (번호 > 공급업체명 > 품목명)
+    @Column(name = "weight", nullable = false)
+    private Integer weight;
+
+    /**
+     * 문서 유형 열거형
+     */
+    public enum DocumentType {
+        DELIVERY,   // 입고
+        INVOICE     // 송장
+    }
+}
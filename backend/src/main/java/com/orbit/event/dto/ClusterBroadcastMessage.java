@@ -0,0 +1,21 @@
+package com.orbit.event.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.*;
+
+/**
+ * 노드 간 WebSocket 전달 메시지 (Redis Pub/Sub)
+ * - 발신 노드는 로컬 브로커로 직접 전달하고, 다른 노드는 이 메시지를 받아 각자의 Simple Broker 로 재발행
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterBroadcastMessage {
+    private String messageId;    // 메시지 고유 ID (노드별 중복 전달 방지)
+    private String originNode;   // 발신 노드 ID (NodeIdUtil)
+    private String destination;  // STOMP 목적지 (예: /topic/purchase-request/1)
+    private String user;         // 사용자 대상 전송 시 사용자명 (convertAndSendToUser), 없으면 브로드캐스트
+    private JsonNode payload;    // 전달 내용
+}
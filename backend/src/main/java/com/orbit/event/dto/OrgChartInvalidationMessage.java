@@ -0,0 +1,29 @@
+package com.orbit.event.dto;
+
+import com.orbit.event.event.OrgChartChangeEvent.TargetType;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 노드 간 조직도 변경 메시지 (Redis Pub/Sub)
+ * - 변경을 반영한 노드가 발행하고, 다른 노드는 같은 항목을 다시 읽어 조직도 색인에 반영
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartInvalidationMessage {
+    private String originNode;   // 발신 노드 ID (NodeIdUtil)
+    private List<Target> targets; // 변경 항목
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Target {
+        private TargetType targetType;
+        private Long targetId;
+        private boolean removed;
+    }
+}
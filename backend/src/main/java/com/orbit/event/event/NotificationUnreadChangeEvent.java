@@ -0,0 +1,20 @@
+package com.orbit.event.event;
+
+import lombok.Getter;
+
+/**
+ * 읽지 않은 알림 수 변경 이벤트
+ * - NotificationEntityListener 가 알림 저장/읽음 처리/삭제 시 발행
+ * - NotificationUnreadCounter 가 트랜잭션 단위로 모아 커밋 이후 Redis 카운터에 반영
+ */
+@Getter
+public class NotificationUnreadChangeEvent {
+
+    private final Long userId;
+    private final long delta;
+
+    public NotificationUnreadChangeEvent(Long userId, long delta) {
+        this.userId = userId;
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,25 @@
+package com.orbit.event.event;
+
+import lombok.Getter;
+
+/**
+ * 조직도(멤버, 부서, 직급) 변경 이벤트
+ * - OrgChartEntityListener 가 발행하고, OrgChartIndex 가 트랜잭션 단위로 모아 커밋 이후 해당 항목만 다시 읽어 반영
+ */
+@Getter
+public class OrgChartChangeEvent {
+
+    public enum TargetType {
+        MEMBER, DEPARTMENT, POSITION
+    }
+
+    private final TargetType targetType;
+    private final Long targetId;
+    private final boolean removed;
+
+    public OrgChartChangeEvent(TargetType targetType, Long targetId, boolean removed) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.removed = removed;
+    }
+}
@@ -0,0 +1,69 @@
+package com.orbit.event.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.event.dto.ClusterBroadcastMessage;
+import com.orbit.util.NodeIdUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 노드 간 WebSocket 메시지 수신기
+ * - 도메인 채널(ClusterBroadcastPublisher.CHANNELS)의 메시지를 로컬 Simple Broker 로 재발행
+ * - 발신 노드는 이미 로컬로 전달했으므로 제외하고, 같은 메시지 ID 는 노드당 한 번만 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterBroadcastListener implements MessageListener {
+
+    private static final int RECENT_MESSAGE_LIMIT = 10_000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 최근 전달한 메시지 ID (오래된 순으로 제거)
+    private final Map<String, Boolean> recentMessageIds = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_MESSAGE_LIMIT;
+        }
+    };
+
+    @Override
+    public void onMessage(Message redisMessage, byte[] pattern) {
+        try {
+            ClusterBroadcastMessage message = objectMapper.readValue(redisMessage.getBody(), ClusterBroadcastMessage.class);
+
+            if (NodeIdUtil.getNodeId().equals(message.getOriginNode()) || !markDelivered(message.getMessageId())) {
+                return;
+            }
+
+            if (message.getUser() != null) {
+                messagingTemplate.convertAndSendToUser(message.getUser(), message.getDestination(), message.getPayload());
+            } else {
+                messagingTemplate.convertAndSend(message.getDestination(), message.getPayload());
+            }
+        } catch (Exception e) {
+            log.error("노드 간 메시지 처리 실패: {} - {}",
+                    new String(redisMessage.getChannel(), StandardCharsets.UTF_8), e.getMessage());
+        }
+    }
+
+    /**
+     * 처음 받은 메시지면 기록하고 true
+     */
+    private synchronized boolean markDelivered(String messageId) {
+        if (messageId == null) {
+            return true;
+        }
+        return recentMessageIds.put(messageId, Boolean.TRUE) == null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.orbit.event.listener;
+
+import com.orbit.entity.Notification;
+import com.orbit.event.event.NotificationUnreadChangeEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 알림 엔티티 JPA 리스너
+ * - 읽지 않은 알림이 생기거나(저장) 없어질 때(읽음 처리, 삭제) NotificationUnreadChangeEvent 를 발행
+ * - 알림은 여러 서비스/엔티티에서 NotificationRepository 로 직접 저장하므로 엔티티 수준에서 감지
+ * - JPQL 일괄 UPDATE/DELETE 는 리스너를 거치지 않으므로 호출 측에서 직접 반영해야 함
+ */
+public class NotificationEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NotificationEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostLoad
+    public void onLoaded(Notification notification) {
+        notification.setReadOnLoad(notification.isRead());
+    }
+
+    @PostPersist
+    public void onPersisted(Notification notification) {
+        if (!notification.isRead()) {
+            publish(notification, 1);
+        }
+        notification.setReadOnLoad(notification.isRead());
+    }
+
+    @PostUpdate
+    public void onUpdated(Notification notification) {
+        Boolean before = notification.getReadOnLoad();
+        if (before != null && before != notification.isRead()) {
+            publish(notification, notification.isRead() ? -1 : 1);
+        }
+        notification.setReadOnLoad(notification.isRead());
+    }
+
+    @PostRemove
+    public void onRemoved(Notification notification) {
+        if (!notification.isRead()) {
+            publish(notification, -1);
+        }
+    }
+
+    private void publish(Notification notification, long delta) {
+        if (notification.getUser() != null) {
+            eventPublisher.publishEvent(new NotificationUnreadChangeEvent(notification.getUser().getId(), delta));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.orbit.event.listener;
+
+import com.orbit.entity.approval.Department;
+import com.orbit.entity.approval.Position;
+import com.orbit.entity.member.Member;
+import com.orbit.event.event.OrgChartChangeEvent;
+import com.orbit.event.event.OrgChartChangeEvent.TargetType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 조직도 엔티티(Member, Department, Position) JPA 리스너
+ * - 저장/수정/삭제 시 OrgChartChangeEvent 를 발행
+ * - Hibernate 가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입 사용
+ */
+public class OrgChartEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OrgChartEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        publish(entity, false);
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        publish(entity, true);
+    }
+
+    private void publish(Object entity, boolean removed) {
+        if (entity instanceof Member member) {
+            eventPublisher.publishEvent(new OrgChartChangeEvent(TargetType.MEMBER, member.getId(), removed));
+        } else if (entity instanceof Department department) {
+            eventPublisher.publishEvent(new OrgChartChangeEvent(TargetType.DEPARTMENT, department.getId(), removed));
+        } else if (entity instanceof Position position) {
+            eventPublisher.publishEvent(new OrgChartChangeEvent(TargetType.POSITION, position.getId(), removed));
+        }
+    }
+}
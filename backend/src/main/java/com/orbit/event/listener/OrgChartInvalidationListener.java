@@ -0,0 +1,32 @@
+package com.orbit.event.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.event.dto.OrgChartInvalidationMessage;
+import com.orbit.service.procurement.OrgChartIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 조직도 변경 수신기
+ * - org_chart_channel 의 변경 항목을 로컬 조직도 색인(OrgChartIndex)에 반영 (발신 노드는 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgChartInvalidationListener implements MessageListener {
+
+    private final OrgChartIndex orgChartIndex;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message redisMessage, byte[] pattern) {
+        try {
+            orgChartIndex.onRemoteChange(objectMapper.readValue(redisMessage.getBody(), OrgChartInvalidationMessage.class));
+        } catch (Exception e) {
+            log.error("조직도 변경 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.orbit.event.listener;
 
+import com.orbit.entity.outbox.OutboxEvent;
 import com.orbit.event.dto.PurchaseRequestStatusEventDTO;
 import com.orbit.event.event.PurchaseRequestStatusChangeEvent;
-import com.orbit.event.publisher.PurchaseRequestEventPublisher;
-import com.orbit.service.procurement.PurchaseRequestWebSocketService;
+import com.orbit.repository.outbox.OutboxEventRepository;
+import com.orbit.service.outbox.OutboxRelay;
+import com.orbit.service.procurement.PurchaseRequestStatusOutboxHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 구매 요청 상태 변경 이벤트 리스너
+ * - 상태 변경과 같은 트랜잭션에서 아웃박스에 기록 (롤백되면 이벤트도 함께 취소)
+ * - WebSocket / Redis 전달은 커밋 이후 OutboxRelay 가 비동기로 수행
+ */
 @Component
 @RequiredArgsConstructor
 public class PurchaseRequestEventListener {
-    private final PurchaseRequestWebSocketService webSocketService;
-    private final PurchaseRequestEventPublisher redisEventPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PurchaseRequestStatusOutboxHandler statusOutboxHandler;
+    private final OutboxRelay outboxRelay;
 
     @EventListener
     public void handlePurchaseRequestStatusChange(PurchaseRequestStatusChangeEvent event) {
@@ -24,10 +34,18 @@ public class PurchaseRequestEventListener {
                 .changedAt(event.getChangedAt())
                 .build();
 
-        // WebSocket으로 클라이언트에 전파
-        webSocketService.sendStatusUpdateEvent(eventDTO);
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(PurchaseRequestStatusOutboxHandler.EVENT_TYPE)
+                .aggregateId(event.getPurchaseRequestId())
+                .payload(statusOutboxHandler.writePayload(eventDTO))
+                .build());
+    }
 
-        // Redis Pub/Sub 채널로 이벤트 발행
-        redisEventPublisher.publishStatusChangeEvent(eventDTO);
+    /**
+     * 커밋 이후 아웃박스 즉시 전달 요청 (주기 실행을 기다리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterStatusChangeCommit(PurchaseRequestStatusChangeEvent event) {
+        outboxRelay.wakeUp();
     }
-}
\ No newline at end of file
+}
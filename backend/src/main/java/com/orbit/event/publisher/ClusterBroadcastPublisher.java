@@ -0,0 +1,83 @@
+package com.orbit.event.publisher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.event.dto.ClusterBroadcastMessage;
+import com.orbit.util.NodeIdUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 WebSocket 메시지 발행기
+ * - 로컬 Simple Broker 로 전달한 뒤, 같은 메시지를 도메인 채널로 발행하여 다른 노드의 구독자에게도 전달
+ * - 수신 측은 ClusterBroadcastListener 가 발신 노드를 제외하고 재발행
+ */
+@Slf4j
+@Component
+public class ClusterBroadcastPublisher {
+
+    public static final String PURCHASE_REQUEST_STATUS_CHANNEL = "purchase_request_status_channel";
+    public static final String APPROVAL_CHANNEL = "approval_channel";
+    public static final String NOTIFICATION_CHANNEL = "notification_channel";
+
+    /**
+     * ClusterBroadcastListener 가 구독하는 도메인 채널
+     */
+    public static final List<String> CHANNELS = List.of(PURCHASE_REQUEST_STATUS_CHANNEL, APPROVAL_CHANNEL,
+            NOTIFICATION_CHANNEL);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ClusterBroadcastPublisher(SimpMessagingTemplate messagingTemplate,
+                                     @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                                     ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisStringTemplate = redisStringTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 모든 노드의 구독자에게 전달 (로컬 전달 + 채널 발행)
+     */
+    public void send(String channel, String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        publish(channel, null, destination, payload);
+    }
+
+    /**
+     * 모든 노드에 접속한 특정 사용자에게 전달 (로컬 전달 + 채널 발행)
+     */
+    public void sendToUser(String channel, String user, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(user, destination, payload);
+        publish(channel, user, destination, payload);
+    }
+
+    /**
+     * 다른 노드로만 발행 (로컬 전달은 호출 측에서 이미 수행한 경우)
+     * - Redis 장애가 업무 처리를 실패시키지 않도록 발행 오류는 로그만 남김
+     */
+    public void publish(String channel, String user, String destination, Object payload) {
+        ClusterBroadcastMessage message = ClusterBroadcastMessage.builder()
+                .messageId(UUID.randomUUID().toString())
+                .originNode(NodeIdUtil.getNodeId())
+                .destination(destination)
+                .user(user)
+                .payload(objectMapper.valueToTree(payload))
+                .build();
+        try {
+            redisStringTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("노드 간 메시지 직렬화 실패: {} - {}", destination, e.getMessage());
+        } catch (Exception e) {
+            log.error("노드 간 메시지 발행 실패: {} - {}", channel, e.getMessage());
+        }
+    }
+}
@@ -2,15 +2,23 @@ package com.orbit.event.publisher;
 
 import com.orbit.event.dto.PurchaseRequestStatusEventDTO;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * 구매 요청 상태 변경을 다른 노드로 발행
+ * - 로컬 구독자는 PurchaseRequestWebSocketService 가 직접 전달하므로 채널 발행만 수행
+ */
 @Component
 @RequiredArgsConstructor
 public class PurchaseRequestEventPublisher {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ClusterBroadcastPublisher clusterBroadcastPublisher;
 
     public void publishStatusChangeEvent(PurchaseRequestStatusEventDTO event) {
-        redisTemplate.convertAndSend("purchase_request_status_channel", event);
+        clusterBroadcastPublisher.publish(
+                ClusterBroadcastPublisher.PURCHASE_REQUEST_STATUS_CHANNEL,
+                null,
+                "/topic/purchase-request/" + event.getPurchaseRequestId(),
+                event
+        );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.orbit.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 일시적 처리 불가 예외
+ * 처리 대기열이 가득 차는 등 잠시 후 다시 시도하면 처리될 수 있을 때 발생
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
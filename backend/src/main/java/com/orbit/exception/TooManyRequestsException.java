@@ -0,0 +1,16 @@
+package com.orbit.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청 횟수 제한 초과 예외
+ * 짧은 시간 안에 같은 요청(인증 코드 재발송 등)을 반복할 때 발생
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
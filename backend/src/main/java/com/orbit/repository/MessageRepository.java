@@ -1,35 +1,54 @@
 package com.orbit.repository;
 
-import com.orbit.entity.member.Member;
+import com.orbit.dto.MessageResponseDto;
 import com.orbit.entity.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    // ✅ 받은 메시지를 최신순으로 조회
-    List<Message> findByReceiverOrderByRegTimeDesc(Member receiver);
-
-    // ✅ 보낸 메시지를 최신순으로 조회
-    List<Message> findBySenderOrderByRegTimeDesc(Member sender);
-
-    // ✅ 로그인 시 읽지 않은 메시지 개수를 조회하여 배지(알람) 표시
-    // 아래처럼 @Query를 명시적으로 사용하면 @Param("receiver") 이 필요함
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.receiver = :receiver AND m.read = false")
-    int countUnreadMessages(@Param("receiver") Member receiver);
+    /**
+     * 대화 메시지 이력 (커서 이전 메시지, 최신순)
+     * - 조회자가 삭제한 메시지는 제외
+     */
+    @Query("SELECT new com.orbit.dto.MessageResponseDto(m.id, s.id, s.name, m.receiver.id, m.content, m.read, m.regTime, m.updateTime) " +
+            "FROM Message m JOIN m.sender s " +
+            "WHERE ((m.sender.id = :memberId AND m.receiver.id = :otherId AND m.deletedBySender = false) " +
+            "   OR (m.sender.id = :otherId AND m.receiver.id = :memberId AND m.deletedByReceiver = false)) " +
+            "AND (m.regTime < :cursorRegTime OR (m.regTime = :cursorRegTime AND m.id < :cursorId)) " +
+            "ORDER BY m.regTime DESC, m.id DESC")
+    List<MessageResponseDto> findConversation(@Param("memberId") Long memberId,
+                                              @Param("otherId") Long otherId,
+                                              @Param("cursorRegTime") LocalDateTime cursorRegTime,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    /**
+     * 발신자별 읽지 않은 메시지 수
+     * @return [senderId, count]
+     */
+    @Query("SELECT m.sender.id, COUNT(m) FROM Message m " +
+            "WHERE m.receiver.id = :receiverId AND m.read = false AND m.deletedByReceiver = false " +
+            "GROUP BY m.sender.id")
+    List<Object[]> countUnreadGroupBySender(@Param("receiverId") Long receiverId);
+
+    /**
+     * 대화 읽음 처리 (상대방이 보낸 읽지 않은 메시지)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Message m SET m.read = true " +
+            "WHERE m.receiver.id = :receiverId AND m.sender.id = :senderId AND m.read = false")
+    int markConversationAsRead(@Param("receiverId") Long receiverId, @Param("senderId") Long senderId);
 
     @Modifying(clearAutomatically = true)  // ✅ 엔티티 컨텍스트 자동 동기화
     @Transactional
     @Query("UPDATE Message m SET m.read = true WHERE m.id = :messageId")
     void markMessageAsRead(@Param("messageId") Long messageId);
-
-    // ✅ 사용자의 받은 모든 메시지 조회
-    //List<Message> findByRecipientId(Long recipientId);
-
-
 }
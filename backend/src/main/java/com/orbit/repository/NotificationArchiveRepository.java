@@ -0,0 +1,45 @@
+package com.orbit.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.orbit.dto.NotificationDto;
+import com.orbit.entity.NotificationArchive;
+
+@Repository
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    /**
+     * 알림을 보관 테이블로 복사 (이미 보관된 ID 는 건너뜀)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO notifications_archive
+            (id, user_id, title, content, type, related_id, is_read, created_at, archived_at)
+        SELECT n.id, n.user_id, n.title, n.content, n.type, n.related_id, n.is_read, n.created_at, :archivedAt
+        FROM notifications n
+        WHERE n.id IN :ids
+        """, nativeQuery = true)
+    int copyFromNotifications(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 보관 알림 피드 (커서 이전 알림, 최신순)
+     */
+    @Query("SELECT new com.orbit.dto.NotificationDto(a.id, a.title, a.content, a.type, a.relatedId, a.isRead, a.createdAt) " +
+            "FROM NotificationArchive a " +
+            "WHERE a.userId = :userId " +
+            "AND (a.createdAt < :cursorCreatedAt OR (a.createdAt = :cursorCreatedAt AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<NotificationDto> findFeed(@Param("userId") Long userId,
+                                   @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+}
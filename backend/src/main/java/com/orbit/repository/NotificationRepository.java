@@ -1,8 +1,17 @@
 package com.orbit.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.orbit.dto.NotificationDto;
 import com.orbit.entity.Notification;
 
 @Repository
@@ -32,4 +41,102 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * 특정 엔티티 관련 알림 조회
      */
     java.util.List<Notification> findByRelatedIdOrderByCreatedAtDesc(Long relatedId);
-}
\ No newline at end of file
+
+    /**
+     * 알림 피드 (커서 이전 알림, 최신순)
+     * - 회원 엔티티를 로딩하지 않도록 DTO 로 직접 조회
+     * - (user_id, created_at, id) 인덱스를 역순으로 읽고 페이지 크기만큼만 읽으므로 누적 알림 수와 무관
+     */
+    @Query("SELECT new com.orbit.dto.NotificationDto(n.id, n.title, n.content, n.type, n.relatedId, n.isRead, n.createdAt) " +
+            "FROM Notification n " +
+            "WHERE n.user.id = :userId " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDto> findFeed(@Param("userId") Long userId,
+                                   @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    /**
+     * 읽지 않은 알림 피드 ((user_id, is_read, created_at, id) 인덱스 사용)
+     */
+    @Query("SELECT new com.orbit.dto.NotificationDto(n.id, n.title, n.content, n.type, n.relatedId, n.isRead, n.createdAt) " +
+            "FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.isRead = false " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDto> findUnreadFeed(@Param("userId") Long userId,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    /**
+     * 사용자별 읽지 않은 알림 수 (카운터 보정용, 읽지 않은 알림이 없는 사용자는 결과에 없음)
+     * @return [userId, count]
+     */
+    @Query("SELECT n.user.id, COUNT(n) FROM Notification n " +
+            "WHERE n.isRead = false AND n.user.id IN :userIds " +
+            "GROUP BY n.user.id")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 커서 시점까지의 읽지 않은 알림 일괄 읽음 처리 (커서 알림 포함)
+     * @return 읽음 처리된 건수 (읽지 않은 알림 카운터 감소량)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.user.id = :userId AND n.isRead = false " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id <= :cursorId))")
+    int markReadUpTo(@Param("userId") Long userId,
+                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                     @Param("cursorId") Long cursorId);
+
+    /**
+     * 선택한 알림 일괄 읽음 처리 (본인 알림 중 읽지 않은 알림만)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.user.id = :userId AND n.isRead = false AND n.id IN :ids")
+    int markReadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 기준 시각 이전의 읽은 알림 일괄 삭제 (읽은 알림만 삭제하므로 카운터 변화 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.isRead = true AND n.createdAt < :before")
+    int deleteReadBefore(@Param("userId") Long userId, @Param("before") LocalDateTime before);
+
+    /**
+     * 보존 기간이 지난 알림 ID (오래된 순, 보관 이동 청크 단위)
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.createdAt < :cutoff ORDER BY n.createdAt ASC, n.id ASC")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 사용자별 읽지 않은 알림 수 (지정한 알림 중)
+     * @return [userId, count]
+     */
+    @Query("SELECT n.user.id, COUNT(n) FROM Notification n " +
+            "WHERE n.isRead = false AND n.id IN :ids " +
+            "GROUP BY n.user.id")
+    List<Object[]> countUnreadByIdsGroupByUser(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 알림 일괄 삭제 (엔티티 리스너를 거치지 않으므로 카운터는 호출 측에서 반영)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 병합 대상 후보 알림 (기준 시각 이후 생성된 읽지 않은 알림, 최신순)
+     */
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id IN :userIds AND n.relatedId IN :relatedIds " +
+            "AND n.isRead = false AND n.createdAt >= :since " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findCoalesceCandidates(@Param("userIds") Collection<Long> userIds,
+                                              @Param("relatedIds") Collection<Long> relatedIds,
+                                              @Param("since") LocalDateTime since);
+}
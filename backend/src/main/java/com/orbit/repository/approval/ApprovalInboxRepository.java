@@ -0,0 +1,51 @@
+package com.orbit.repository.approval;
+
+import com.orbit.entity.approval.ApprovalInboxItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ApprovalInboxRepository extends JpaRepository<ApprovalInboxItem, Long> {
+
+    // 결재자의 결재함 페이지 조회 (최근 변경 순)
+    @Query("SELECT i FROM ApprovalInboxItem i WHERE i.approverId = :approverId AND i.box = :box " +
+            "ORDER BY i.updatedAt DESC, i.id DESC")
+    Page<ApprovalInboxItem> findInbox(@Param("approverId") Long approverId,
+                                      @Param("box") ApprovalInboxItem.Box box,
+                                      Pageable pageable);
+
+    // 결재자의 결재함 전체 조회 (최근 변경 순)
+    @Query("SELECT i FROM ApprovalInboxItem i WHERE i.approverId = :approverId AND i.box = :box " +
+            "ORDER BY i.updatedAt DESC, i.id DESC")
+    List<ApprovalInboxItem> findInbox(@Param("approverId") Long approverId,
+                                      @Param("box") ApprovalInboxItem.Box box);
+
+    List<ApprovalInboxItem> findByApprovalLineIdIn(Collection<Long> approvalLineIds);
+
+    // 결재자별 결재함 건수 [approverId, box, count]
+    @Query("SELECT i.approverId, i.box, COUNT(i) FROM ApprovalInboxItem i " +
+            "WHERE i.approverId IN :approverIds GROUP BY i.approverId, i.box")
+    List<Object[]> countByApproverIds(@Param("approverIds") Collection<Long> approverIds);
+
+    // 기존 결재선으로 결재함 적재 (결재함이 비어 있을 때 한 번 실행)
+    @Modifying
+    @Query(value = """
+        INSERT INTO approval_inbox
+            (approval_line_id, approver_id, purchase_request_id, box, step, status_code, status_name,
+             approved_at, comment, updated_at)
+        SELECT al.id, al.approver_id, al.request_id,
+               CASE WHEN cc.code_value IN ('IN_REVIEW', 'PENDING') THEN 'PENDING' ELSE 'COMPLETED' END,
+               al.step, cc.code_value, cc.code_name, al.approved_at, al.comment,
+               COALESCE(al.approved_at, NOW())
+        FROM approval_lines al
+        JOIN child_codes cc ON cc.id = al.status_id
+        WHERE cc.code_value IN ('IN_REVIEW', 'PENDING', 'APPROVED', 'REJECTED')
+        """, nativeQuery = true)
+    int backfillFromApprovalLines();
+}
@@ -2,9 +2,12 @@ package com.orbit.repository.approval;
 
 import com.orbit.entity.approval.ApprovalLine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +36,58 @@ public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, Long
             "WHERE al.approver.username = :username " +
             "AND al.status.codeValue IN ('APPROVED', 'REJECTED')")
     List<ApprovalLine> findCompletedApprovalsByUsername(@Param("username") String username);
+
+    // 일괄 결재용 - 처리 대상 결재선 (상태 코드 함께 조회)
+    @Query("SELECT al FROM ApprovalLine al " +
+            "JOIN FETCH al.status " +
+            "WHERE al.id IN :ids")
+    List<ApprovalLine> findAllWithStatusByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일괄 결재용 - 여러 구매 요청의 전체 결재선 (요청별 단계 순서)
+    @Query("SELECT al FROM ApprovalLine al " +
+            "JOIN FETCH al.status " +
+            "WHERE al.purchaseRequest.id IN :requestIds " +
+            "ORDER BY al.purchaseRequest.id ASC, al.step ASC")
+    List<ApprovalLine> findAllWithStatusByRequestIdIn(@Param("requestIds") Collection<Long> requestIds);
+
+    // SLA 추적 복원용 - 결재 중인 결재선 [id, reviewStartedAt, slaRemindedAt, slaEscalatedAt]
+    @Query("SELECT al.id, al.reviewStartedAt, al.slaRemindedAt, al.slaEscalatedAt FROM ApprovalLine al " +
+            "WHERE al.status.codeValue = 'IN_REVIEW' " +
+            "AND al.reviewStartedAt IS NOT NULL")
+    List<Object[]> findInReviewSlaRows();
+
+    // 결재 차례 시각이 없는 기존 결재선 보정
+    @Modifying
+    @Query(value = """
+        UPDATE approval_lines al
+        JOIN child_codes cc ON cc.id = al.status_id
+        SET al.review_started_at = :now
+        WHERE cc.code_value = 'IN_REVIEW'
+          AND al.review_started_at IS NULL
+        """, nativeQuery = true)
+    int backfillReviewStartedAt(@Param("now") LocalDateTime now);
+
+    // SLA 알림 발송 선점 (아직 결재 중이고 알림 전인 경우에만 1 반환, 노드 간 중복 발송 방지)
+    @Modifying
+    @Query(value = """
+        UPDATE approval_lines al
+        JOIN child_codes cc ON cc.id = al.status_id
+        SET al.sla_reminded_at = :now
+        WHERE al.id = :id
+          AND cc.code_value = 'IN_REVIEW'
+          AND al.sla_reminded_at IS NULL
+        """, nativeQuery = true)
+    int markSlaReminded(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // SLA 에스컬레이션 선점
+    @Modifying
+    @Query(value = """
+        UPDATE approval_lines al
+        JOIN child_codes cc ON cc.id = al.status_id
+        SET al.sla_escalated_at = :now
+        WHERE al.id = :id
+          AND cc.code_value = 'IN_REVIEW'
+          AND al.sla_escalated_at IS NULL
+        """, nativeQuery = true)
+    int markSlaEscalated(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,32 @@
+package com.orbit.repository.bidding;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.orbit.entity.bidding.BiddingNumberSequence;
+
+@Repository
+public interface BiddingNumberSequenceRepository extends JpaRepository<BiddingNumberSequence, String> {
+
+    /**
+     * 채번 블록 선점
+     * - 키가 없으면 생성하고, 있으면 next_value 를 블록 크기만큼 증가 (행 잠금으로 노드 간 충돌 방지)
+     * - 같은 트랜잭션에서 findNextValue 로 증가된 값을 읽어 블록 범위를 계산
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO bidding_number_sequences (sequence_key, next_value, updated_at)
+        VALUES (:sequenceKey, 1 + :blockSize, NOW())
+        ON DUPLICATE KEY UPDATE next_value = next_value + :blockSize, updated_at = NOW()
+        """, nativeQuery = true)
+    int reserveBlock(@Param("sequenceKey") String sequenceKey, @Param("blockSize") int blockSize);
+
+    /**
+     * 현재 next_value 조회 (선점한 블록의 끝 + 1)
+     */
+    @Query(value = "SELECT next_value FROM bidding_number_sequences WHERE sequence_key = :sequenceKey", nativeQuery = true)
+    Long findNextValue(@Param("sequenceKey") String sequenceKey);
+}
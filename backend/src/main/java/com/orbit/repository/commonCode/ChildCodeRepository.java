@@ -1,5 +1,6 @@
 package com.orbit.repository.commonCode;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,11 @@ public interface ChildCodeRepository extends JpaRepository<ChildCode, Long> {
      */
     List<ChildCode> findByParentCode(ParentCode parentCode);
 
+    /**
+     * 여러 부모 코드에 속한 자식 코드 일괄 조회
+     */
+    List<ChildCode> findByParentCodeIn(Collection<ParentCode> parentCodes);
+
     /**
      * 특정 부모 코드 하위의 코드값 중복 체크
      */
@@ -1,5 +1,6 @@
 package com.orbit.repository.commonCode;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,11 @@ public interface ParentCodeRepository extends JpaRepository<ParentCode, Long> {
     Optional<ParentCode> findByEntityTypeAndCodeGroup(String entityType, String codeGroup);
 
     ParentCode findByCodeName(String codeName);
+
+    /**
+     * 코드명 목록으로 부모 코드 일괄 조회
+     */
+    List<ParentCode> findByCodeNameIn(Collection<String> codeNames);
     /**
      * 활성화된 부모 코드 목록 조회
      */
@@ -1,5 +1,6 @@
 package com.orbit.repository.delivery;
 
+import com.orbit.dto.delivery.DeliveryDto;
 import com.orbit.entity.delivery.Delivery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -40,10 +41,30 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
 
     List<Delivery> findByBiddingOrderId(Long biddingOrderId);
 
+    // id 순 청크 조회 (검색 색인 일괄 생성용)
+    List<Delivery> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     boolean existsByBiddingOrderId(Long biddingOrderId);
 
     /**
-     * 송장 미발행 입고 목록 조회
+     * 송장 미발행 입고 목록 조회 (공급자 정보, 계약번호 포함)
+     * - 입고 / 발주 / 공급자 / 계약을 하나의 조인 쿼리로 조회하여 행마다 추가 조회하지 않음
+     * - 계약번호는 입찰의 첫 번째 계약을 사용
      */
-    List<Delivery> findByInvoiceIssuedFalse();
+    @Query(value = "SELECT new com.orbit.dto.delivery.DeliveryDto$UninvoicedResponse(" +
+            "d.id, d.deliveryNumber, d.orderNumber, c.transactionNumber, d.supplierId, d.supplierName, " +
+            "m.username, m.name, m.email, m.contactNumber, m.roadAddress, m.detailAddress, " +
+            "d.itemName, d.itemQuantity, d.totalAmount, d.invoiceIssued) " +
+            "FROM Delivery d JOIN d.biddingOrder bo " +
+            "LEFT JOIN Member m ON m.id = d.supplierId " +
+            "LEFT JOIN BiddingContract c ON c.bidding.id = bo.biddingId AND c.id = " +
+            "(SELECT MIN(c2.id) FROM BiddingContract c2 WHERE c2.bidding.id = bo.biddingId) " +
+            "WHERE d.invoiceIssued = false " +
+            "AND (:supplierName IS NULL OR d.supplierName = :supplierName) " +
+            "ORDER BY d.regTime DESC",
+            countQuery = "SELECT COUNT(d) FROM Delivery d WHERE d.invoiceIssued = false " +
+                    "AND (:supplierName IS NULL OR d.supplierName = :supplierName)")
+    Page<DeliveryDto.UninvoicedResponse> findUninvoicedWithContracts(
+            @Param("supplierName") String supplierName,
+            Pageable pageable);
 }
\ No newline at end of file
@@ -4,9 +4,12 @@ import com.orbit.entity.invoice.Invoice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
@@ -17,6 +20,9 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
     // 페이징 및 정렬을 위한 메소드
     Page<Invoice> findAll(Pageable pageable);
 
+    // id 순 청크 조회 (검색 색인 일괄 생성용)
+    List<Invoice> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     // 상태별 페이징 조회
     @Query("SELECT i FROM Invoice i WHERE i.status.parentCode = :parentCode AND i.status.childCode = :childCode")
     Page<Invoice> findByStatus(
@@ -46,4 +52,25 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
             Pageable pageable);
 
     List<Invoice> findByDeliveryId(Long deliveryId);
+
+    /**
+     * 연체 대상 송장 ID 를 아웃박스에 적재 (INSERT ... SELECT)
+     * - (status_child_code, due_date) 인덱스 범위만 읽으므로 연체되지 않은 송장 수와 무관
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO outbox_events (event_type, aggregate_id, status, attempts, next_attempt_at, created_at)
+        SELECT 'INVOICE_OVERDUE', i.id, 'PENDING', 0, :now, :now
+        FROM invoices i
+        WHERE i.status_child_code = 'WAITING' AND i.status_parent_code = 'INVOICE' AND i.due_date < :today
+        """, nativeQuery = true)
+    int enqueueOverdueEvents(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    /**
+     * 지급 기한이 지난 대기 송장을 한 번의 UPDATE 로 연체 처리
+     */
+    @Modifying
+    @Query("UPDATE Invoice i SET i.status.childCode = 'OVERDUE', i.updatedAt = :now " +
+            "WHERE i.status.childCode = 'WAITING' AND i.status.parentCode = 'INVOICE' AND i.dueDate < :today")
+    int markOverdue(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -77,6 +77,19 @@ public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecif
     @Query("SELECT m FROM Member m WHERE m.position.level > :positionLevel ORDER BY m.position.level DESC")
     List<Member> findByPositionLevelGreaterThan(@Param("positionLevel") int positionLevel);
 
+    /**
+     * 조직도 색인용 멤버 소속 정보 조회 [memberId, departmentId, positionId]
+     * - 엔티티를 로딩하지 않고 외래 키만 조회
+     */
+    @Query("SELECT m.id, m.department.id, m.position.id FROM Member m")
+    List<Object[]> findOrgChartRows();
+
+    /**
+     * 조직도 색인용 단일 멤버 소속 정보 조회 [memberId, departmentId, positionId]
+     */
+    @Query("SELECT m.id, m.department.id, m.position.id FROM Member m WHERE m.id = :id")
+    List<Object[]> findOrgChartRowById(@Param("id") Long id);
+
     /**
      * 직급 순으로 정렬된 모든 멤버 조회 (높은 순)
      * @return 직급 순으로 정렬된 멤버 리스트
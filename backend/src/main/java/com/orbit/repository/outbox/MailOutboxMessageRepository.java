@@ -0,0 +1,39 @@
+package com.orbit.repository.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.orbit.entity.outbox.MailOutboxMessage;
+
+@Repository
+public interface MailOutboxMessageRepository extends JpaRepository<MailOutboxMessage, Long> {
+
+    /**
+     * 발송 대상 메일 ID (발송 대기 또는 선점이 만료된 발송 중 메일, 오래된 순)
+     */
+    @Query("SELECT m.id FROM MailOutboxMessage m " +
+            "WHERE m.status IN (com.orbit.entity.outbox.MailOutboxMessage.MailStatus.PENDING, " +
+            "                   com.orbit.entity.outbox.MailOutboxMessage.MailStatus.SENDING) " +
+            "AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.nextAttemptAt, m.id")
+    List<Long> findDispatchableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 메일 발송 선점 (다른 스레드/노드가 먼저 선점했으면 0 반환)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MailOutboxMessage m " +
+            "SET m.status = com.orbit.entity.outbox.MailOutboxMessage.MailStatus.SENDING, m.nextAttemptAt = :leaseUntil " +
+            "WHERE m.id = :id " +
+            "AND m.status IN (com.orbit.entity.outbox.MailOutboxMessage.MailStatus.PENDING, " +
+            "                 com.orbit.entity.outbox.MailOutboxMessage.MailStatus.SENDING) " +
+            "AND m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,34 @@
+package com.orbit.repository.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.orbit.entity.outbox.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달 대상 이벤트 조회 (오래된 순)
+     * - 같은 집합체의 앞선 이벤트가 재시도 대기 중이면 뒤 이벤트도 보류하여 집합체별 전달 순서를 보장
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = com.orbit.entity.outbox.OutboxEvent.OutboxStatus.PENDING " +
+            "AND e.nextAttemptAt <= :now " +
+            "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p " +
+            "   WHERE p.eventType = e.eventType AND p.aggregateId = e.aggregateId AND p.id < e.id " +
+            "   AND p.status = com.orbit.entity.outbox.OutboxEvent.OutboxStatus.PENDING AND p.nextAttemptAt > :now) " +
+            "ORDER BY e.id")
+    List<OutboxEvent> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 가장 오래된 전달 대기 이벤트 (전달 지연 지표용)
+     */
+    Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxEvent.OutboxStatus status);
+}
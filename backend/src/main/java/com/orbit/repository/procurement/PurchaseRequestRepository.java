@@ -1,12 +1,181 @@
 package com.orbit.repository.procurement;
 
+import com.orbit.dto.procurement.PurchaseRequestSummaryDTO;
+import com.orbit.entity.procurement.GoodsRequest;
 import com.orbit.entity.procurement.PurchaseRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 구매 요청 엔티티에 대한 데이터 접근 인터페이스
  */
 @Repository
 public interface PurchaseRequestRepository extends JpaRepository<PurchaseRequest, Long> {
+
+    /**
+     * 목록 조회 1단계 - 조건에 맞는 구매 요청 ID 페이지 조회
+     * - 단일 테이블(purchase_requests)만 조회하므로 연관 엔티티 로딩이 발생하지 않음
+     * - 요청 유형은 구분 컬럼(request_type: SI, MAINTENANCE, GOODS)으로 필터링
+     */
+    @Query(value = """
+        SELECT pr.purchase_request_id
+        FROM purchase_requests pr
+        WHERE (:requestType IS NULL OR pr.request_type = :requestType)
+          AND (:statusChildCode IS NULL OR pr.status_child_code = :statusChildCode)
+          AND (:projectId IS NULL OR pr.project_id = :projectId)
+          AND (:memberId IS NULL OR pr.member_id = :memberId)
+          AND (:startDate IS NULL OR pr.request_date >= :startDate)
+          AND (:endDate IS NULL OR pr.request_date <= :endDate)
+        ORDER BY pr.request_date DESC, pr.purchase_request_id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM purchase_requests pr
+        WHERE (:requestType IS NULL OR pr.request_type = :requestType)
+          AND (:statusChildCode IS NULL OR pr.status_child_code = :statusChildCode)
+          AND (:projectId IS NULL OR pr.project_id = :projectId)
+          AND (:memberId IS NULL OR pr.member_id = :memberId)
+          AND (:startDate IS NULL OR pr.request_date >= :startDate)
+          AND (:endDate IS NULL OR pr.request_date <= :endDate)
+        """,
+        nativeQuery = true)
+    Page<Long> searchIds(
+            @Param("requestType") String requestType,
+            @Param("statusChildCode") String statusChildCode,
+            @Param("projectId") Long projectId,
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    /**
+     * 결재선 변경 버전 증가 (행 잠금으로 동시 결재 처리 시에도 버전이 중복되지 않음)
+     */
+    @Modifying
+    @Query(value = "UPDATE purchase_requests SET approval_version = approval_version + 1 WHERE purchase_request_id = :id",
+            nativeQuery = true)
+    int incrementApprovalVersion(@Param("id") Long id);
+
+    /**
+     * 결재선 변경 버전 조회
+     */
+    @Query(value = "SELECT approval_version FROM purchase_requests WHERE purchase_request_id = :id", nativeQuery = true)
+    Long findApprovalVersion(@Param("id") Long id);
+
+    /**
+     * 전체 구매 요청 ID 조회 (최신순)
+     */
+    @Query("SELECT p.id FROM PurchaseRequest p ORDER BY p.requestDate DESC, p.id DESC")
+    List<Long> findAllIds();
+
+    /**
+     * 목록 조회 2단계 - 프로젝트, 요청자, 첨부 파일을 한 번에 조회
+     */
+    @EntityGraph(attributePaths = {"project", "member", "attachments"})
+    @Query("SELECT p FROM PurchaseRequest p WHERE p.id IN :ids")
+    List<PurchaseRequest> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 목록 조회 3단계 - 물품 요청의 품목, 품목 정보, 단위 코드를 한 번에 조회
+     * - 첨부 파일과 품목은 모두 List(bag) 컬렉션이므로 한 쿼리에서 함께 fetch 할 수 없어 분리
+     * - 같은 영속성 컨텍스트의 GoodsRequest 컬렉션이 초기화되어 이후 지연 로딩이 발생하지 않음
+     */
+    @Query("SELECT DISTINCT g FROM GoodsRequest g " +
+            "LEFT JOIN FETCH g.items i " +
+            "LEFT JOIN FETCH i.item " +
+            "LEFT JOIN FETCH i.unitParentCode " +
+            "LEFT JOIN FETCH i.unitChildCode " +
+            "WHERE g.id IN :ids")
+    List<GoodsRequest> fetchItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 목록 요약 조회 공통 조인 / 조건 / 정렬 (조회 컬럼에는 본문 LOB 컬럼을 포함하지 않음)
+     */
+    String SUMMARY_JOIN = " LEFT JOIN p.project pj LEFT JOIN p.member m ";
+    String SUMMARY_FILTER = "WHERE (:statusChildCode IS NULL OR p.status.childCode = :statusChildCode) " +
+            "AND (:projectId IS NULL OR p.project.id = :projectId) " +
+            "AND (:memberId IS NULL OR p.member.id = :memberId) " +
+            "AND (:startDate IS NULL OR p.requestDate >= :startDate) " +
+            "AND (:endDate IS NULL OR p.requestDate <= :endDate) ";
+    String SUMMARY_ORDER = "ORDER BY p.requestDate DESC, p.id DESC";
+
+    /**
+     * 전체 유형 목록 요약 (공통 컬럼만 조회)
+     */
+    @Query(value = "SELECT new com.orbit.dto.procurement.PurchaseRequestSummaryDTO(" +
+            "p.id, CASE WHEN TYPE(p) = SIRequest THEN 'SI' WHEN TYPE(p) = MaintenanceRequest THEN 'MAINTENANCE' " +
+            "ELSE 'GOODS' END, p.requestName, p.requestNumber, p.requestDate, " +
+            "p.status.parentCode, p.status.childCode, p.customer, p.businessDepartment, p.businessManager, " +
+            "p.businessBudget, pj.id, pj.projectName, m.id, m.name) " +
+            "FROM PurchaseRequest p" + SUMMARY_JOIN + SUMMARY_FILTER + SUMMARY_ORDER,
+            countQuery = "SELECT COUNT(p) FROM PurchaseRequest p " + SUMMARY_FILTER)
+    Page<PurchaseRequestSummaryDTO> findSummaries(
+            @Param("statusChildCode") String statusChildCode,
+            @Param("projectId") Long projectId,
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    /**
+     * SI 요청 목록 요약 (구분 컬럼 조건이 붙으며 SI 컬럼 중 본문 제외)
+     */
+    @Query(value = "SELECT new com.orbit.dto.procurement.PurchaseRequestSummaryDTO(" +
+            "p.id, 'SI', p.requestName, p.requestNumber, p.requestDate, " +
+            "p.status.parentCode, p.status.childCode, p.customer, p.businessDepartment, p.businessManager, " +
+            "p.businessBudget, pj.id, pj.projectName, m.id, m.name, p.projectStartDate, p.projectEndDate) " +
+            "FROM SIRequest p" + SUMMARY_JOIN + SUMMARY_FILTER + SUMMARY_ORDER,
+            countQuery = "SELECT COUNT(p) FROM SIRequest p " + SUMMARY_FILTER)
+    Page<PurchaseRequestSummaryDTO> findSiSummaries(
+            @Param("statusChildCode") String statusChildCode,
+            @Param("projectId") Long projectId,
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    /**
+     * 유지보수 요청 목록 요약 (계약 내용 본문 제외)
+     */
+    @Query(value = "SELECT new com.orbit.dto.procurement.PurchaseRequestSummaryDTO(" +
+            "p.id, 'MAINTENANCE', p.requestName, p.requestNumber, p.requestDate, " +
+            "p.status.parentCode, p.status.childCode, p.customer, p.businessDepartment, p.businessManager, " +
+            "p.businessBudget, pj.id, pj.projectName, m.id, m.name, " +
+            "p.contractStartDate, p.contractEndDate, p.contractAmount) " +
+            "FROM MaintenanceRequest p" + SUMMARY_JOIN + SUMMARY_FILTER + SUMMARY_ORDER,
+            countQuery = "SELECT COUNT(p) FROM MaintenanceRequest p " + SUMMARY_FILTER)
+    Page<PurchaseRequestSummaryDTO> findMaintenanceSummaries(
+            @Param("statusChildCode") String statusChildCode,
+            @Param("projectId") Long projectId,
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    /**
+     * 물품 요청 목록 요약 (품목은 상세 조회에서 로딩)
+     */
+    @Query(value = "SELECT new com.orbit.dto.procurement.PurchaseRequestSummaryDTO(" +
+            "p.id, 'GOODS', p.requestName, p.requestNumber, p.requestDate, " +
+            "p.status.parentCode, p.status.childCode, p.customer, p.businessDepartment, p.businessManager, " +
+            "p.businessBudget, pj.id, pj.projectName, m.id, m.name) " +
+            "FROM GoodsRequest p" + SUMMARY_JOIN + SUMMARY_FILTER + SUMMARY_ORDER,
+            countQuery = "SELECT COUNT(p) FROM GoodsRequest p " + SUMMARY_FILTER)
+    Page<PurchaseRequestSummaryDTO> findGoodsSummaries(
+            @Param("statusChildCode") String statusChildCode,
+            @Param("projectId") Long projectId,
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package com.orbit.repository.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.orbit.entity.scheduler.SchedulerLock;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 잠금 행이 없으면 만료된 상태로 생성
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO scheduler_locks (lock_name, locked_until, locked_at, locked_by)
+        VALUES (:lockName, :now, :now, '')
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("lockName") String lockName, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 잠금만 획득 (조건부 UPDATE 이므로 동시에 한 노드만 성공)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :nodeId " +
+            "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int acquire(@Param("lockName") String lockName,
+                @Param("nodeId") String nodeId,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 자신이 보유한 잠금 해제
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now " +
+            "WHERE l.lockName = :lockName AND l.lockedBy = :nodeId")
+    int release(@Param("lockName") String lockName,
+                @Param("nodeId") String nodeId,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,130 @@
+package com.orbit.repository.search;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.orbit.entity.search.SearchToken;
+
+@Repository
+public interface SearchTokenRepository extends JpaRepository<SearchToken, Long> {
+
+    /**
+     * 문서의 기존 토큰 삭제 (재색인 / 문서 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM SearchToken t WHERE t.docType = :docType AND t.docId = :docId")
+    int deleteByDocument(@Param("docType") SearchToken.DocumentType docType, @Param("docId") Long docId);
+
+    /**
+     * 문서 유형별 토큰 존재 여부 (초기 색인 필요 여부 판단)
+     */
+    boolean existsByDocType(SearchToken.DocumentType docType);
+
+    /**
+     * 입고 검색 - 모든 토큰을 포함하는 입고 ID를 가중치 순으로 조회
+     * - 토큰은 후보 선별용이므로, 색인 필드 중 하나가 검색어를 실제로 포함하는지 다시 확인 (토큰이 떨어져 있거나 여러 필드에 나뉜 경우 제외)
+     * @param keyword 정규화(소문자, 공백 제거)하고 LIKE 특수문자를 이스케이프한 검색어
+     */
+    @Query(value = """
+        SELECT t.doc_id
+        FROM search_tokens t
+        JOIN deliveries d ON d.id = t.doc_id
+        WHERE t.doc_type = 'DELIVERY' AND t.token IN (:tokens)
+          AND (:supplierId IS NULL OR d.supplier_id = :supplierId)
+          AND (:supplierName IS NULL OR d.supplier_name LIKE CONCAT('%', :supplierName, '%'))
+          AND (:startDate IS NULL OR d.delivery_date >= :startDate)
+          AND (:endDate IS NULL OR d.delivery_date <= :endDate)
+          AND (:invoiceIssued IS NULL OR d.invoice_issued = :invoiceIssued)
+          AND (LOWER(REGEXP_REPLACE(d.delivery_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+            OR LOWER(REGEXP_REPLACE(d.order_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+            OR LOWER(REGEXP_REPLACE(d.supplier_name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+            OR LOWER(REGEXP_REPLACE(d.item_name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%'))
+        GROUP BY t.doc_id
+        HAVING COUNT(*) = :tokenCount
+        ORDER BY SUM(t.weight) DESC, t.doc_id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(*) FROM (
+            SELECT t.doc_id
+            FROM search_tokens t
+            JOIN deliveries d ON d.id = t.doc_id
+            WHERE t.doc_type = 'DELIVERY' AND t.token IN (:tokens)
+              AND (:supplierId IS NULL OR d.supplier_id = :supplierId)
+              AND (:supplierName IS NULL OR d.supplier_name LIKE CONCAT('%', :supplierName, '%'))
+              AND (:startDate IS NULL OR d.delivery_date >= :startDate)
+              AND (:endDate IS NULL OR d.delivery_date <= :endDate)
+              AND (:invoiceIssued IS NULL OR d.invoice_issued = :invoiceIssued)
+              AND (LOWER(REGEXP_REPLACE(d.delivery_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+                OR LOWER(REGEXP_REPLACE(d.order_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+                OR LOWER(REGEXP_REPLACE(d.supplier_name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+                OR LOWER(REGEXP_REPLACE(d.item_name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%'))
+            GROUP BY t.doc_id
+            HAVING COUNT(*) = :tokenCount
+        ) matched
+        """,
+        nativeQuery = true)
+    Page<Long> searchDeliveryIds(
+            @Param("tokens") Collection<String> tokens,
+            @Param("tokenCount") long tokenCount,
+            @Param("keyword") String keyword,
+            @Param("supplierId") Long supplierId,
+            @Param("supplierName") String supplierName,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("invoiceIssued") Boolean invoiceIssued,
+            Pageable pageable);
+
+    /**
+     * 송장 검색 - 모든 토큰을 포함하는 송장 ID를 가중치 순으로 조회
+     * - 색인 필드(송장번호, 입고번호, 공급업체명, 품목명) 중 하나가 검색어를 실제로 포함하는지 다시 확인
+     * @param keyword 정규화(소문자, 공백 제거)하고 LIKE 특수문자를 이스케이프한 검색어
+     */
+    @Query(value = """
+        SELECT t.doc_id
+        FROM search_tokens t
+        JOIN invoices i ON i.id = t.doc_id
+        LEFT JOIN deliveries d ON d.id = i.delivery_id
+        LEFT JOIN members m ON m.id = i.supplier_id
+        WHERE t.doc_type = 'INVOICE' AND t.token IN (:tokens)
+          AND (:childCode IS NULL OR (i.status_parent_code = 'INVOICE' AND i.status_child_code = :childCode))
+          AND (LOWER(REGEXP_REPLACE(i.invoice_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+            OR LOWER(REGEXP_REPLACE(d.delivery_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+            OR LOWER(REGEXP_REPLACE(m.name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+            OR LOWER(REGEXP_REPLACE(i.item_name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%'))
+        GROUP BY t.doc_id
+        HAVING COUNT(*) = :tokenCount
+        ORDER BY SUM(t.weight) DESC, t.doc_id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(*) FROM (
+            SELECT t.doc_id
+            FROM search_tokens t
+            JOIN invoices i ON i.id = t.doc_id
+            LEFT JOIN deliveries d ON d.id = i.delivery_id
+            LEFT JOIN members m ON m.id = i.supplier_id
+            WHERE t.doc_type = 'INVOICE' AND t.token IN (:tokens)
+              AND (:childCode IS NULL OR (i.status_parent_code = 'INVOICE' AND i.status_child_code = :childCode))
+              AND (LOWER(REGEXP_REPLACE(i.invoice_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+                OR LOWER(REGEXP_REPLACE(d.delivery_number, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+                OR LOWER(REGEXP_REPLACE(m.name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%')
+                OR LOWER(REGEXP_REPLACE(i.item_name, '[[:space:]]', '')) LIKE CONCAT('%', :keyword, '%'))
+            GROUP BY t.doc_id
+            HAVING COUNT(*) = :tokenCount
+        ) matched
+        """,
+        nativeQuery = true)
+    Page<Long> searchInvoiceIds(
+            @Param("tokens") Collection<String> tokens,
+            @Param("tokenCount") long tokenCount,
+            @Param("keyword") String keyword,
+            @Param("childCode") String childCode,
+            Pageable pageable);
+}
@@ -0,0 +1,441 @@
+package com.orbit.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.dto.MessageHistoryDto;
+import com.orbit.dto.MessageRequestDto;
+import com.orbit.dto.MessageResponseDto;
+import com.orbit.entity.Message;
+import com.orbit.entity.member.Member;
+import com.orbit.exception.ServiceUnavailableException;
+import com.orbit.repository.MessageRepository;
+import com.orbit.repository.member.MemberRepository;
+import com.orbit.util.KeysetPageUtil;
+import com.orbit.util.TransactionUtil;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 서비스
+ * - 전송된 메시지는 chat_channel 로 즉시 발행하고(MessageSubscriberService 가 각 노드의 구독자에게 전달),
+ *   저장은 쓰기 지연 버퍼에 모아 전용 스레드에서 주기적으로 배치 INSERT (요청 스레드에서는 저장하지 않음)
+ * - 대화 이력은 (regTime, id) 커서 기반으로 대화 단위 조회하고, 이 노드 버퍼의 저장 전 메시지도 함께 반환
+ * - 대화별 읽지 않은 메시지 수는 Redis 해시(CHAT:UNREAD:{memberId}, 필드 = 상대방 ID)에 보관하여 COUNT 쿼리 없이 조회
+ * - 저장 전 메시지 수는 노드와 관계없이 Redis 해시(CHAT:UNREAD:PENDING:{memberId})에 보관하여 읽지 않은 수 초기화 시 DB 건수에 더함
+ * - 읽음 처리 시각은 Redis 해시(CHAT:READ:{memberId})에 잠시 남겨, 그 전에 보냈지만 아직 저장되지 않은 메시지는 읽음으로 저장
+ * - 비정상 종료 시 버퍼에 남은 메시지는 유실될 수 있음
+ */
+@Slf4j
+@Service
+public class ChatMessageService {
+
+    private static final String CHAT_CHANNEL = "chat_channel";
+    private static final String UNREAD_KEY_PREFIX = "CHAT:UNREAD:";
+    private static final String PENDING_KEY_PREFIX = "CHAT:UNREAD:PENDING:";
+    private static final String READ_KEY_PREFIX = "CHAT:READ:";
+    // 초기화 여부 표시 필드 (읽지 않은 메시지가 없어도 해시를 유지)
+    private static final String INITIALIZED_FIELD = "_";
+    // 하루에 한 번 DB 건수로 다시 초기화하여 어긋난 값 복구
+    private static final Duration UNREAD_TTL = Duration.ofDays(1);
+    // 읽음 처리 시각 보관 기간 (버퍼에 머무는 시간보다 충분히 길게)
+    private static final Duration READ_MARK_TTL = Duration.ofMinutes(10);
+    // 버퍼가 가득 찼을 때 저장 스레드를 기다리는 최대 시간
+    private static final long OFFER_TIMEOUT_MILLIS = 1000;
+    private static final int MAX_CONTENT_LENGTH = 255;
+
+    /**
+     * 메시지 전송 시 저장 전 건수 증가, 읽지 않은 수 해시가 있을 때만 대화별 건수 증가 (없으면 다음 조회 시 초기화)
+     */
+    private static final RedisScript<Long> INCREMENT_ON_SEND = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            """, Long.class);
+
+    private final MessageRepository messageRepository;
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    // 쓰기 지연 버퍼
+    private final LinkedBlockingQueue<PendingMessage> buffer;
+
+    // 저장 전용 스레드 (주기 저장 + 버퍼가 배치 크기만큼 차면 즉시 저장)
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public ChatMessageService(MessageRepository messageRepository,
+                              MemberRepository memberRepository,
+                              @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                              @Value("${chat.write-behind.capacity:10000}") int capacity,
+                              @Value("${chat.write-behind.flush-interval:200}") long flushIntervalMillis) {
+        this.messageRepository = messageRepository;
+        this.memberRepository = memberRepository;
+        this.redisStringTemplate = redisStringTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.buffer = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 메시지 전송 (버퍼에 추가 후 발행, 수신자의 대화별 읽지 않은 수 증가)
+     * @throws IllegalArgumentException 내용이 비었거나 너무 길거나, 수신자가 없는 경우 (400 응답)
+     * @throws ServiceUnavailableException 저장이 밀려 버퍼가 계속 가득 찬 경우 (503 응답)
+     */
+    public void send(Long senderId, MessageRequestDto request) {
+        String content = request.getContent();
+        if (!StringUtils.hasText(content) || content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("메시지 내용은 1자 이상 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다.");
+        }
+        Long receiverId = request.getReceiverId();
+        if (receiverId == null || !memberRepository.existsById(receiverId)) {
+            throw new IllegalArgumentException("수신자를 찾을 수 없습니다.");
+        }
+
+        enqueue(new PendingMessage(senderId, receiverId, content, LocalDateTime.now()));
+
+        try {
+            redisStringTemplate.execute(INCREMENT_ON_SEND,
+                    List.of(UNREAD_KEY_PREFIX + receiverId, PENDING_KEY_PREFIX + receiverId),
+                    String.valueOf(senderId), String.valueOf(UNREAD_TTL.toMillis()));
+            MessageRequestDto message = MessageRequestDto.builder()
+                    .senderId(senderId)
+                    .receiverId(receiverId)
+                    .content(content)
+                    .build();
+            redisStringTemplate.convertAndSend(CHAT_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("채팅 메시지 발행 실패: {} -> {} - {}", senderId, receiverId, e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼에 추가 (가득 차면 저장 스레드에 저장을 요청하고 잠시 기다림)
+     */
+    private void enqueue(PendingMessage pending) {
+        if (!buffer.offer(pending)) {
+            requestFlush();
+            try {
+                if (!buffer.offer(pending, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    throw new ServiceUnavailableException("메시지 저장이 지연되고 있습니다. 잠시 후 다시 시도해 주세요.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("메시지 전송이 중단되었습니다.");
+            }
+        }
+        if (buffer.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flushSafely();
+            });
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("채팅 메시지 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼의 메시지를 배치 단위로 저장 (저장 스레드와 종료 시에만 호출)
+     * - 배치 저장이 실패하면 한 건씩 저장하여 실패한 메시지만 제외
+     * - 저장 후 (실패한 메시지 포함) 저장 전 건수 차감
+     */
+    synchronized void flush() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            Map<String, Long> readMarks = findReadMarks(batch);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        messageRepository.saveAll(batch.stream().map(pending -> toEntity(pending, readMarks)).toList()));
+            } catch (Exception e) {
+                log.warn("채팅 메시지 배치 저장 실패, 한 건씩 저장합니다 ({}건): {}", batch.size(), e.getMessage());
+                batch.forEach(pending -> saveOne(pending, readMarks));
+            }
+            releasePending(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * 대화 메시지 이력 (커서 기반, 최신순)
+     * - 저장된 메시지와 이 노드 버퍼의 저장 전 메시지(id 없음)를 합쳐서 반환
+     */
+    @Transactional(readOnly = true)
+    public MessageHistoryDto getConversation(Long memberId, Long otherId, String cursor, int size) {
+        return MessageHistoryDto.from(KeysetPageUtil.fetch(cursor, size,
+                (position, limit) -> findConversation(memberId, otherId, position, limit),
+                MessageResponseDto::getRegTime, ChatMessageService::cursorId));
+    }
+
+    private List<MessageResponseDto> findConversation(Long memberId, Long otherId, KeysetPageUtil.Cursor position, Pageable limit) {
+        List<MessageResponseDto> items = new ArrayList<>(messageRepository.findConversation(
+                memberId, otherId, position.time(), position.id(), limit));
+
+        List<PendingMessage> buffered = buffer.stream()
+                .filter(pending -> pending.isBetween(memberId, otherId) && pending.sentAt().isBefore(position.time()))
+                .toList();
+        if (buffered.isEmpty()) {
+            return items;
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        memberRepository.findAllById(List.of(memberId, otherId)).forEach(member -> names.put(member.getId(), member.getName()));
+        buffered.forEach(pending -> items.add(new MessageResponseDto(null, pending.senderId(), names.get(pending.senderId()),
+                pending.receiverId(), pending.content(), false, pending.sentAt(), pending.sentAt())));
+
+        items.sort(Comparator.comparing(MessageResponseDto::getRegTime)
+                .thenComparing(ChatMessageService::cursorId)
+                .reversed());
+        return items.size() > limit.getPageSize() ? items.subList(0, limit.getPageSize()) : items;
+    }
+
+    /**
+     * 커서 id (저장 전 메시지는 같은 시각의 저장된 메시지보다 앞에 오도록 최댓값)
+     */
+    private static Long cursorId(MessageResponseDto message) {
+        return message.getId() != null ? message.getId() : Long.MAX_VALUE;
+    }
+
+    /**
+     * 대화 읽음 처리 (상대방이 보낸 저장된 메시지)
+     * - 아직 저장되지 않은 메시지는 읽음 처리 시각을 남겨 저장 시 읽음으로 저장 (모든 노드의 버퍼에 적용)
+     * @return 읽음 처리된 저장된 메시지 수
+     */
+    @Transactional
+    public int markConversationAsRead(Long memberId, Long otherId) {
+        long readAt = toEpochMillis(LocalDateTime.now());
+        int updated = messageRepository.markConversationAsRead(memberId, otherId);
+        TransactionUtil.runAfterCommit(() -> {
+            try {
+                redisStringTemplate.opsForHash().put(READ_KEY_PREFIX + memberId, String.valueOf(otherId), String.valueOf(readAt));
+                redisStringTemplate.expire(READ_KEY_PREFIX + memberId, READ_MARK_TTL);
+                redisStringTemplate.opsForHash().delete(UNREAD_KEY_PREFIX + memberId, String.valueOf(otherId));
+            } catch (Exception e) {
+                log.warn("대화 읽지 않은 수 초기화 실패: {} - {}", memberId, e.getMessage());
+            }
+        });
+        return updated;
+    }
+
+    /**
+     * 대화별 읽지 않은 메시지 수 (상대방 ID - 건수, 0 건인 대화는 제외)
+     * - Redis 에 없으면 DB 건수와 저장 전 건수로 초기화, Redis 장애 시 DB 건수
+     */
+    public Map<Long, Long> getUnreadCounts(Long memberId) {
+        String key = UNREAD_KEY_PREFIX + memberId;
+        try {
+            Map<Object, Object> cached = redisStringTemplate.opsForHash().entries(key);
+            if (!cached.isEmpty()) {
+                Map<Long, Long> counts = new HashMap<>();
+                cached.forEach((field, value) -> {
+                    long count = Long.parseLong((String) value);
+                    if (!INITIALIZED_FIELD.equals(field) && count > 0) {
+                        counts.put(Long.valueOf((String) field), count);
+                    }
+                });
+                return counts;
+            }
+            return initializeUnreadCounts(memberId);
+        } catch (Exception e) {
+            log.warn("대화 읽지 않은 수 조회 실패, DB 건수 사용: {} - {}", memberId, e.getMessage());
+            return countUnreadFromDb(memberId);
+        }
+    }
+
+    /**
+     * 대화별 읽지 않은 수 초기화 (저장된 건수 + 모든 노드 버퍼의 저장 전 건수)
+     */
+    private Map<Long, Long> initializeUnreadCounts(Long memberId) {
+        Map<Long, Long> counts = countUnreadFromDb(memberId);
+        redisStringTemplate.opsForHash().entries(PENDING_KEY_PREFIX + memberId).forEach((field, value) -> {
+            long pending = Long.parseLong((String) value);
+            if (pending > 0) {
+                counts.merge(Long.valueOf((String) field), pending, Long::sum);
+            }
+        });
+
+        String key = UNREAD_KEY_PREFIX + memberId;
+        Map<String, String> fields = new HashMap<>();
+        fields.put(INITIALIZED_FIELD, "0");
+        counts.forEach((otherId, count) -> fields.put(String.valueOf(otherId), String.valueOf(count)));
+        redisStringTemplate.opsForHash().putAll(key, fields);
+        redisStringTemplate.expire(key, UNREAD_TTL);
+        return counts;
+    }
+
+    private Map<Long, Long> countUnreadFromDb(Long memberId) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : messageRepository.countUnreadGroupBySender(memberId)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * 배치의 대화별 읽음 처리 시각 (수신자:발신자 - epoch ms, 한 번의 파이프라인으로 조회)
+     * - 조회 실패 시 읽지 않음으로 저장 (다음 읽음 처리에서 정리)
+     */
+    private Map<String, Long> findReadMarks(List<PendingMessage> batch) {
+        List<String> conversations = batch.stream().map(PendingMessage::conversationKey).distinct().toList();
+        Map<String, Long> readMarks = new HashMap<>();
+        try {
+            List<Object> values = redisStringTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    HashOperations<String, String, String> hash = ((RedisOperations<String, String>) operations).opsForHash();
+                    for (String conversation : conversations) {
+                        String[] ids = conversation.split(":");
+                        hash.get(READ_KEY_PREFIX + ids[0], ids[1]);
+                    }
+                    return null;
+                }
+            });
+            for (int i = 0; i < conversations.size(); i++) {
+                if (values.get(i) != null) {
+                    readMarks.put(conversations.get(i), Long.parseLong((String) values.get(i)));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("대화 읽음 처리 시각 조회 실패: {}", e.getMessage());
+        }
+        return readMarks;
+    }
+
+    /**
+     * 저장 전 건수 차감 (대화별로 합산하여 한 번의 파이프라인으로 반영)
+     */
+    private void releasePending(List<PendingMessage> batch) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        batch.forEach(pending -> counts.merge(pending.conversationKey(), 1L, Long::sum));
+        try {
+            redisStringTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    HashOperations<String, String, String> hash = ((RedisOperations<String, String>) operations).opsForHash();
+                    counts.forEach((conversation, count) -> {
+                        String[] ids = conversation.split(":");
+                        hash.increment(PENDING_KEY_PREFIX + ids[0], ids[1], -count);
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("저장 전 메시지 수 차감 실패: {}", e.getMessage());
+        }
+    }
+
+    private void saveOne(PendingMessage pending, Map<String, Long> readMarks) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> messageRepository.save(toEntity(pending, readMarks)));
+        } catch (Exception e) {
+            log.error("채팅 메시지 저장 실패: {} -> {} - {}", pending.senderId(), pending.receiverId(), e.getMessage());
+        }
+    }
+
+    private Message toEntity(PendingMessage pending, Map<String, Long> readMarks) {
+        Long readAt = readMarks.get(pending.conversationKey());
+        Member sender = memberRepository.getReferenceById(pending.senderId());
+        Member receiver = memberRepository.getReferenceById(pending.receiverId());
+        return Message.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .content(pending.content())
+                .read(readAt != null && toEpochMillis(pending.sentAt()) <= readAt)
+                .sentAt(pending.sentAt())
+                .sentBy(String.valueOf(pending.senderId()))
+                .build();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 저장 대기 메시지
+     */
+    private record PendingMessage(Long senderId, Long receiverId, String content, LocalDateTime sentAt) {
+
+        boolean isBetween(Long memberId, Long otherId) {
+            return (senderId.equals(memberId) && receiverId.equals(otherId))
+                    || (senderId.equals(otherId) && receiverId.equals(memberId));
+        }
+
+        // 수신자:발신자 (읽음 처리 시각, 저장 전 건수 키)
+        String conversationKey() {
+            return receiverId + ":" + senderId;
+        }
+    }
+}
@@ -1 +1,114 @@
-package com.orbit.service;import lombok.RequiredArgsConstructor;import lombok.extern.slf4j.Slf4j;import org.springframework.data.redis.connection.Message; // ✅ Redis 메시지import org.springframework.messaging.simp.SimpMessagingTemplate;import org.springframework.stereotype.Service;import com.fasterxml.jackson.databind.ObjectMapper;import com.orbit.dto.MessageRequestDto;@Slf4j@Service@RequiredArgsConstructorpublic class MessageSubscriberService implements org.springframework.data.redis.connection.MessageListener {    private final SimpMessagingTemplate messagingTemplate; // ✅ WebSocket을 통해 클라이언트에게 메시지를 전송하는 역할    private final ObjectMapper objectMapper;    /**     *  Redis 메시지 수신     *  - Redis에서 메시지를 수신하는 역할.     *  - redisMessage : Redis Publiser가 발행한 메시지     *  - 이 역할을 수행한 후, 구독 중인 WebSocket 클라이언트에게 메시지를 전송하면 된다.     *    메시지를 수신하고 WebSocket을 통해 클라이언트에게 보냅니다.     */    @Override    public void onMessage(Message redisMessage, byte[] pattern) { // ✅ RedisMessage는 변수로 사용        try {            // 1. Redis 메시지 수신            String jsonMessage = new String(redisMessage.getBody()); // Redis Publiser가 발행한 메시지 getBody()로 가져와서 String으로 변환            log.info("🔹 Redis Subscriber 에서 수신한 경로 : {}, 메시지 내용: {}", new String(pattern), jsonMessage);            // 2. 전달받은 메시지 내용을 MessageRequestDto로 변환            MessageRequestDto messageDto = objectMapper.readValue(jsonMessage, MessageRequestDto.class);            log.info("✅ WebSocket으로 메시지 전송: /topic/chat/{}", messageDto.getReceiverId());            // 3. Redis에서 보낸 메시지를 전달받고 이를 WebSocket을 통해 클라이언트에게 전달            messagingTemplate.convertAndSend("/topic/chat/" + messageDto.getReceiverId(), objectMapper.writeValueAsString(messageDto));            // 4. 발신자에게도 동일한 메시지 전송            messagingTemplate.convertAndSend("/topic/chat/" + messageDto.getSenderId(), objectMapper.writeValueAsString(messageDto));        } catch (Exception e) {            log.error("❌ 메시지 처리 중 오류 발생", e);        }    }}
\ No newline at end of file
+package com.orbit.service;
+
+import java.io.IOException;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 Redis 구독자
+ * - chat_channel 로 발행된 메시지(MessageRequestDto JSON)를 수신자/발신자 토픽(/topic/chat/{memberId})으로 전달
+ * - 라우팅에 필요한 senderId/receiverId 만 스트리밍 파서로 읽고, 본문은 다시 직렬화하지 않고 받은 바이트 그대로 전달
+ * - 메시지 본문은 로그에 남기지 않음
+ */
+@Slf4j
+@Service
+public class MessageSubscriberService implements MessageListener {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/topic/chat/";
+
+    private final SimpMessagingTemplate messagingTemplate; // WebSocket을 통해 클라이언트에게 메시지를 전송하는 역할
+    private final JsonFactory jsonFactory;
+
+    public MessageSubscriberService(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Redis 메시지 수신
+     * - 수신한 바이트를 JSON 메시지로 한 번만 감싸서 수신자와 발신자에게 전송
+     */
+    @Override
+    public void onMessage(Message redisMessage, byte[] pattern) {
+        byte[] body = redisMessage.getBody();
+        try {
+            ChatRoute route = readRoute(body);
+            if (route == null) {
+                log.warn("발신자/수신자 정보가 없는 채팅 메시지를 무시합니다 ({} bytes)", body.length);
+                return;
+            }
+
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            org.springframework.messaging.Message<byte[]> message =
+                    MessageBuilder.createMessage(body, headers.getMessageHeaders());
+
+            messagingTemplate.send(CHAT_DESTINATION_PREFIX + route.receiverId(), message);
+            messagingTemplate.send(CHAT_DESTINATION_PREFIX + route.senderId(), message);
+            log.debug("채팅 메시지 전달: {} -> {}", route.senderId(), route.receiverId());
+        } catch (IOException e) {
+            log.error("채팅 메시지 파싱 실패 ({} bytes): {}", body.length, e.getMessage());
+        } catch (Exception e) {
+            log.error("채팅 메시지 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최상위 senderId/receiverId 필드만 읽음 (둘 다 읽으면 나머지는 파싱하지 않음)
+     * @return 라우팅 정보, 필드가 없으면 null
+     */
+    ChatRoute readRoute(byte[] body) throws IOException {
+        Long senderId = null;
+        Long receiverId = null;
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("senderId".equals(field)) {
+                    senderId = readId(parser, value);
+                } else if ("receiverId".equals(field)) {
+                    receiverId = readId(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+                if (senderId != null && receiverId != null) {
+                    return new ChatRoute(senderId, receiverId);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Long readId(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            return Long.valueOf(parser.getText());
+        }
+        return null;
+    }
+
+    /**
+     * 채팅 메시지 라우팅 정보
+     */
+    record ChatRoute(Long senderId, Long receiverId) {
+    }
+}
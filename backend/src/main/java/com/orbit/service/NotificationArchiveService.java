@@ -0,0 +1,159 @@
+package com.orbit.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.dto.NotificationDto;
+import com.orbit.dto.NotificationFeedDto;
+import com.orbit.repository.NotificationArchiveRepository;
+import com.orbit.repository.NotificationRepository;
+import com.orbit.service.scheduler.SchedulerLockService;
+import com.orbit.util.KeysetPageUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 보존/보관 서비스
+ * - 보존 기간(hot-days)이 지난 알림을 청크 단위로 notifications_archive 로 옮김 (청크마다 별도 트랜잭션, 청크 사이 대기, 전용 스레드)
+ * - 기존 알림 조회는 notifications 만 조회하므로 보존 기간 내 알림만 대상
+ * - 보관 알림은 보관 알림 피드로만 조회
+ */
+@Slf4j
+@Service
+public class NotificationArchiveService {
+
+    private static final String LOCK_NAME = "notification-archive";
+    private static final Duration LOCK_DURATION = Duration.ofHours(1);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int hotDays;
+    private final int chunkSize;
+    private final long throttleMillis;
+
+    // 보관 이동 전용 스레드 (실행 중이면 다음 예약 실행은 건너뜀)
+    private final ExecutorService archiveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean archiving = new AtomicBoolean();
+
+    public NotificationArchiveService(NotificationRepository notificationRepository,
+                                      NotificationArchiveRepository notificationArchiveRepository,
+                                      NotificationUnreadCounter notificationUnreadCounter,
+                                      SchedulerLockService schedulerLockService,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${notification.retention.hot-days:90}") int hotDays,
+                                      @Value("${notification.retention.chunk-size:1000}") int chunkSize,
+                                      @Value("${notification.retention.throttle-ms:200}") long throttleMillis) {
+        this.notificationRepository = notificationRepository;
+        this.notificationArchiveRepository = notificationArchiveRepository;
+        this.notificationUnreadCounter = notificationUnreadCounter;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.hotDays = hotDays;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+    }
+
+    /**
+     * 보존 기간이 지난 알림 보관 이동 (매일 새벽)
+     * - 청크 사이 대기로 오래 걸리므로 공용 스케줄러 스레드를 점유하지 않도록 전용 스레드에서 실행
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * ?}")
+    public void scheduleArchive() {
+        if (archiving.compareAndSet(false, true)) {
+            archiveExecutor.execute(() -> {
+                try {
+                    archiveExpiredNotifications();
+                } finally {
+                    archiving.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        archiveExecutor.shutdownNow();
+    }
+
+    /**
+     * 보존 기간이 지난 알림 보관 이동
+     * - 락 만료 전에 중단하고 남은 알림은 다음 실행에서 이어서 처리
+     */
+    void archiveExpiredNotifications() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_DURATION)) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(hotDays);
+        LocalDateTime deadline = LocalDateTime.now().plus(LOCK_DURATION).minusMinutes(5);
+        int archived = 0;
+        try {
+            while (LocalDateTime.now().isBefore(deadline)) {
+                Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                if (moved < chunkSize) {
+                    break;
+                }
+                Thread.sleep(throttleMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("알림 보관 이동 실패: {}", e.getMessage());
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+            if (archived > 0) {
+                log.info("알림 보관 이동: {}건 ({} 이전)", archived, cutoff.toLocalDate());
+            }
+        }
+    }
+
+    /**
+     * 한 청크 보관 이동 (복사 후 삭제, 삭제되는 읽지 않은 알림 수는 카운터에서 차감)
+     */
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = notificationRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        notificationArchiveRepository.copyFromNotifications(ids, LocalDateTime.now());
+        for (Object[] row : notificationRepository.countUnreadByIdsGroupByUser(ids)) {
+            notificationUnreadCounter.adjust((Long) row[0], -(Long) row[1]);
+        }
+        return notificationRepository.deleteByIds(ids);
+    }
+
+    /**
+     * 보관 알림 피드 (커서 기반, 최신순)
+     */
+    @Transactional(readOnly = true)
+    public NotificationFeedDto getArchivedFeed(Long userId, String cursor, int size) {
+        return NotificationFeedDto.from(KeysetPageUtil.fetch(cursor, size,
+            (position, limit) -> notificationArchiveRepository.findFeed(userId, position.time(), position.id(), limit),
+            NotificationDto::getCreatedAt, NotificationDto::getId));
+    }
+}
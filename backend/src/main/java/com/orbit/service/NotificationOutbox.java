@@ -0,0 +1,188 @@
+package com.orbit.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.orbit.dto.NotificationDto;
+import com.orbit.entity.Notification;
+import com.orbit.entity.Notification.NotificationType;
+import com.orbit.event.publisher.ClusterBroadcastPublisher;
+import com.orbit.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 알림 아웃박스
+ * - 입찰 진행(초대 → 진행 → 평가 → 낙찰 → 계약 → 발주) 중 같은 공급사에게 비슷한 알림이 연달아 저장되는 것을 방지
+ * - 트랜잭션 안에서 등록된 알림을 (사용자, 관련 ID, 유형) 단위로 모으고 커밋 직전에 한 번에 저장
+ * - 병합 기간(window) 안에 저장된 같은 키의 읽지 않은 알림이 있으면 새로 저장하지 않고 제목/내용만 갱신
+ * - 저장/갱신된 알림은 커밋 이후 /queue/notifications/{userId}/items 로 전송
+ * - 관련 ID 가 없는 알림은 병합하지 않음
+ */
+@Component
+public class NotificationOutbox {
+
+    // 트랜잭션에 바인딩하는 대기 알림 리소스 키
+    private static final Object PENDING_RESOURCE_KEY = new Object();
+
+    private final NotificationRepository notificationRepository;
+    private final ClusterBroadcastPublisher clusterBroadcastPublisher;
+    private final Duration window;
+    private final Counter coalesced;
+
+    public NotificationOutbox(NotificationRepository notificationRepository,
+                              ClusterBroadcastPublisher clusterBroadcastPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${notification.coalesce.window:PT30S}") Duration window) {
+        this.notificationRepository = notificationRepository;
+        this.clusterBroadcastPublisher = clusterBroadcastPublisher;
+        this.window = window;
+        this.coalesced = Counter.builder("notification.coalesced")
+                .description("병합되어 새로 저장하지 않은 알림 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 등록 (트랜잭션 안에서는 같은 키의 대기 알림과 병합 후 커밋 직전에 저장)
+     */
+    @SuppressWarnings("unchecked")
+    public Notification enqueue(Notification notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Notification saved = flushPending(List.of(notification)).get(0);
+            push(NotificationDto.fromEntity(saved), saved.getUser().getId());
+            return saved;
+        }
+
+        Map<Object, Notification> pending = (Map<Object, Notification>) TransactionSynchronizationManager.getResource(PENDING_RESOURCE_KEY);
+        if (pending == null) {
+            pending = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(PENDING_RESOURCE_KEY, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingFlush(pending));
+        }
+
+        CoalesceKey key = CoalesceKey.of(notification);
+        Notification queued = key != null ? pending.get(key) : null;
+        if (queued != null) {
+            merge(queued, notification);
+            return queued;
+        }
+        pending.put(key != null ? key : new Object(), notification);
+        return notification;
+    }
+
+    /**
+     * 대기 알림 저장 (병합 기간 안의 같은 키 알림은 갱신, 나머지는 한 번에 저장)
+     * @return 저장 또는 갱신된 알림 (등록 순서)
+     */
+    private List<Notification> flushPending(Collection<Notification> notifications) {
+        Map<CoalesceKey, Notification> recent = findRecent(notifications);
+
+        List<Notification> flushed = new ArrayList<>(notifications.size());
+        List<Notification> inserts = new ArrayList<>();
+        for (Notification notification : notifications) {
+            CoalesceKey key = CoalesceKey.of(notification);
+            Notification target = key != null ? recent.get(key) : null;
+            if (target != null) {
+                merge(target, notification);
+                flushed.add(target);
+            } else {
+                inserts.add(notification);
+                flushed.add(notification);
+            }
+        }
+        notificationRepository.saveAll(inserts);
+        return flushed;
+    }
+
+    /**
+     * 병합 기간 안에 저장된 키별 최신 읽지 않은 알림
+     */
+    private Map<CoalesceKey, Notification> findRecent(Collection<Notification> notifications) {
+        Set<Long> userIds = notifications.stream()
+                .filter(notification -> notification.getRelatedId() != null)
+                .map(notification -> notification.getUser().getId())
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> relatedIds = notifications.stream()
+                .map(Notification::getRelatedId)
+                .filter(relatedId -> relatedId != null)
+                .collect(Collectors.toSet());
+
+        Map<CoalesceKey, Notification> recent = new HashMap<>();
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        for (Notification candidate : notificationRepository.findCoalesceCandidates(userIds, relatedIds, since)) {
+            recent.putIfAbsent(CoalesceKey.of(candidate), candidate);
+        }
+        return recent;
+    }
+
+    private void merge(Notification target, Notification update) {
+        target.setTitle(update.getTitle());
+        target.setContent(update.getContent());
+        coalesced.increment();
+    }
+
+    private void push(NotificationDto notification, Long userId) {
+        clusterBroadcastPublisher.send(ClusterBroadcastPublisher.NOTIFICATION_CHANNEL,
+                "/queue/notifications/" + userId + "/items", notification);
+    }
+
+    /**
+     * 커밋 직전 저장, 커밋 이후 전송
+     * - 업무 트랜잭션에 참여하여 저장하므로 저장에 실패하면 업무 트랜잭션도 롤백됨
+     */
+    private class PendingFlush implements TransactionSynchronization {
+
+        private final Map<Object, Notification> pending;
+        private final Map<Long, Long> recipients = new HashMap<>();
+        private List<NotificationDto> flushed = List.of();
+
+        PendingFlush(Map<Object, Notification> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            List<Notification> notifications = flushPending(pending.values());
+            flushed = notifications.stream().map(NotificationDto::fromEntity).toList();
+            notifications.forEach(notification -> recipients.put(notification.getId(), notification.getUser().getId()));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_RESOURCE_KEY);
+            if (status == STATUS_COMMITTED) {
+                flushed.forEach(notification -> push(notification, recipients.get(notification.getId())));
+            }
+        }
+    }
+
+    /**
+     * 병합 키 (사용자, 관련 ID, 유형)
+     */
+    private record CoalesceKey(Long userId, Long relatedId, NotificationType type) {
+
+        static CoalesceKey of(Notification notification) {
+            if (notification.getRelatedId() == null || notification.getUser() == null) {
+                return null;
+            }
+            return new CoalesceKey(notification.getUser().getId(), notification.getRelatedId(), notification.getType());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.orbit.service;
 import java.util.List;
 
 import com.orbit.dto.NotificationDto;
+import com.orbit.dto.NotificationFeedDto;
 import com.orbit.entity.Notification;
 import com.orbit.entity.Notification.NotificationType;
 
@@ -10,6 +11,9 @@ public interface NotificationService {
     // 사용자별 알림 조회
     List<NotificationDto> getNotificationsForUser(Long userId);
     
+    // 알림 피드 (커서 기반, 최신순)
+    NotificationFeedDto getNotificationFeed(Long userId, String cursor, int size, boolean unreadOnly);
+
     // 읽지 않은 알림 개수 조회
     long countUnreadNotifications(Long userId);
     
@@ -27,6 +31,15 @@ public interface NotificationService {
     
     // 알림 삭제
     void deleteNotification(Long notificationId);
+
+    // 커서 시점까지 모두 읽음 처리 (커서가 없으면 전체)
+    int markAllNotificationsAsRead(Long userId, String cursor);
+
+    // 선택한 알림 읽음 처리
+    int markNotificationsAsRead(Long userId, List<Long> notificationIds);
+
+    // N일 이전의 읽은 알림 삭제
+    int deleteReadNotifications(Long userId, int olderThanDays);
     
     // 알림 생성 메서드들
     Notification createNotification(
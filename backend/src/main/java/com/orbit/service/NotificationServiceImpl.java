@@ -1,5 +1,6 @@
 package com.orbit.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -7,11 +8,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.orbit.dto.NotificationDto;
+import com.orbit.dto.NotificationFeedDto;
 import com.orbit.entity.Notification;
 import com.orbit.entity.Notification.NotificationType;
 import com.orbit.entity.member.Member;
 import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.util.KeysetPageUtil;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +25,10 @@ import lombok.RequiredArgsConstructor;
 public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final MemberRepository memberRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter; // 읽지 않은 알림 수 (Redis)
+    private final NotificationOutbox notificationOutbox; // 병합 후 커밋 직전 저장
+
+    private static final int MAX_BULK_SIZE = 1000;
 
     @Override
     @Transactional(readOnly = true)
@@ -34,10 +41,23 @@ public class NotificationServiceImpl implements NotificationService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 알림 피드 (커서 기반, 최신순)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationFeedDto getNotificationFeed(Long userId, String cursor, int size, boolean unreadOnly) {
+        return NotificationFeedDto.from(KeysetPageUtil.fetch(cursor, size,
+            (position, limit) -> unreadOnly
+                ? notificationRepository.findUnreadFeed(userId, position.time(), position.id(), limit)
+                : notificationRepository.findFeed(userId, position.time(), position.id(), limit),
+            NotificationDto::getCreatedAt, NotificationDto::getId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long countUnreadNotifications(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return notificationUnreadCounter.get(userId);
     }
 
     @Override
@@ -82,6 +102,51 @@ public class NotificationServiceImpl implements NotificationService {
         notificationRepository.save(notification);
     }
 
+    /**
+     * 커서 시점까지 모두 읽음 처리 (단일 UPDATE, 커서가 없으면 전체)
+     * - 실제로 바뀐 건수만큼 카운터를 감소시키며, 카운터 반영은 커밋 이후
+     */
+    @Override
+    public int markAllNotificationsAsRead(Long userId, String cursor) {
+        KeysetPageUtil.Cursor position = KeysetPageUtil.decodeCursor(cursor);
+
+        int updated = notificationRepository.markReadUpTo(userId, position.time(), position.id());
+        notificationUnreadCounter.adjust(userId, -updated);
+        return updated;
+    }
+
+    /**
+     * 선택한 알림 읽음 처리 (단일 UPDATE, 본인 알림 중 읽지 않은 알림만)
+     * @throws IllegalArgumentException ID 목록이 너무 길거나 빈 값이 있는 경우 (400 응답)
+     */
+    @Override
+    public int markNotificationsAsRead(Long userId, List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return 0;
+        }
+        if (notificationIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "건까지 처리할 수 있습니다.");
+        }
+        if (notificationIds.contains(null)) {
+            throw new IllegalArgumentException("알림 ID 목록에 빈 값이 있습니다.");
+        }
+
+        int updated = notificationRepository.markReadByIds(userId, notificationIds);
+        notificationUnreadCounter.adjust(userId, -updated);
+        return updated;
+    }
+
+    /**
+     * N일 이전의 읽은 알림 삭제 (단일 DELETE, 읽지 않은 알림은 남김)
+     */
+    @Override
+    public int deleteReadNotifications(Long userId, int olderThanDays) {
+        if (olderThanDays < 0) {
+            throw new IllegalArgumentException("기간은 0일 이상이어야 합니다.");
+        }
+        return notificationRepository.deleteReadBefore(userId, LocalDateTime.now().minusDays(olderThanDays));
+    }
+
     @Override
     public void deleteNotification(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
@@ -110,6 +175,6 @@ public class NotificationServiceImpl implements NotificationService {
             .isRead(false)
             .build();
         
-        return notificationRepository.save(notification);
+        return notificationOutbox.enqueue(notification);
     }
 }
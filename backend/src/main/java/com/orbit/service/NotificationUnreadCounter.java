@@ -0,0 +1,226 @@
+package com.orbit.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.orbit.dto.NotificationCountDto;
+import com.orbit.event.event.NotificationUnreadChangeEvent;
+import com.orbit.event.publisher.ClusterBroadcastPublisher;
+import com.orbit.repository.NotificationRepository;
+import com.orbit.service.scheduler.SchedulerLockService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽지 않은 알림 카운터 (Redis)
+ * - 사용자별 읽지 않은 알림 수를 Redis 에 보관하여 건수 조회 시 COUNT 쿼리를 실행하지 않음
+ * - 알림 저장/읽음 처리/삭제 이벤트를 트랜잭션 단위로 사용자별 합산하고, 커밋 이후 한 번씩 반영 후 /queue/notifications/{userId} 로 전송
+ * - 카운터가 없는 사용자는 최초 조회/변경 시 DB 건수로 초기화
+ * - 주기적으로 카운터가 있는 사용자만 DB 건수와 비교하여 보정 (Redis 장애, 일괄 쿼리 등으로 어긋난 값 복구)
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "NOTIFICATION:UNREAD:";
+    private static final String LOCK_NAME = "notification-unread-reconcile";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    // 트랜잭션에 바인딩하는 사용자별 변경량 리소스 키
+    private static final Object PENDING_RESOURCE_KEY = new Object();
+
+    /**
+     * 카운터가 있을 때만 증감 (0 미만으로 내려가지 않음), 카운터가 없으면 nil 반환
+     */
+    private static final RedisScript<Long> ADJUST_IF_EXISTS = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                redis.call('SET', KEYS[1], 0)
+                value = 0
+            end
+            return value
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final NotificationRepository notificationRepository;
+    private final ClusterBroadcastPublisher clusterBroadcastPublisher;
+    private final SchedulerLockService schedulerLockService;
+
+    public NotificationUnreadCounter(@Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                                     NotificationRepository notificationRepository,
+                                     ClusterBroadcastPublisher clusterBroadcastPublisher,
+                                     SchedulerLockService schedulerLockService) {
+        this.redisStringTemplate = redisStringTemplate;
+        this.notificationRepository = notificationRepository;
+        this.clusterBroadcastPublisher = clusterBroadcastPublisher;
+        this.schedulerLockService = schedulerLockService;
+    }
+
+    /**
+     * 읽지 않은 알림 수 (Redis 장애 시 DB 건수)
+     */
+    public long get(Long userId) {
+        try {
+            String value = redisStringTemplate.opsForValue().get(key(userId));
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+            return initialize(userId);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 조회 실패, DB 건수 사용: {} - {}", userId, e.getMessage());
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수 변경 (트랜잭션 안에서는 커밋 이후 사용자별로 합산하여 한 번 반영)
+     */
+    @EventListener
+    public void onUnreadChange(NotificationUnreadChangeEvent event) {
+        adjust(event.getUserId(), event.getDelta());
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감 (JPQL 일괄 처리 등 엔티티 리스너를 거치지 않는 변경에서 직접 호출)
+     */
+    @SuppressWarnings("unchecked")
+    public void adjust(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(Map.of(userId, delta));
+            return;
+        }
+
+        Map<Long, Long> pending = (Map<Long, Long>) TransactionSynchronizationManager.getResource(PENDING_RESOURCE_KEY);
+        if (pending == null) {
+            Map<Long, Long> deltas = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(PENDING_RESOURCE_KEY, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_RESOURCE_KEY);
+                    if (status == STATUS_COMMITTED) {
+                        apply(deltas);
+                    }
+                }
+            });
+            pending = deltas;
+        }
+        pending.merge(userId, delta, Long::sum);
+    }
+
+    /**
+     * 카운터 보정 (카운터가 있는 사용자만 배치 단위로 DB 건수와 비교)
+     * - 보정과 동시에 진행 중인 증감은 다음 보정 주기에 맞춰짐
+     */
+    @Scheduled(fixedDelayString = "${notification.unread.reconcile-interval:600000}")
+    public void reconcile() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10))) {
+            return;
+        }
+        int corrected = 0;
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(RECONCILE_BATCH_SIZE).build();
+            List<Long> batch = new ArrayList<>();
+            try (Cursor<String> keys = redisStringTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    batch.add(Long.parseLong(keys.next().substring(KEY_PREFIX.length())));
+                    if (batch.size() == RECONCILE_BATCH_SIZE) {
+                        corrected += reconcileBatch(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                corrected += reconcileBatch(batch);
+            }
+            if (corrected > 0) {
+                log.info("읽지 않은 알림 카운터 보정: {}명", corrected);
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 보정 실패: {}", e.getMessage());
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private int reconcileBatch(List<Long> userIds) {
+        Map<Long, Long> actual = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadByUserIds(userIds)) {
+            actual.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<String> cached = redisStringTemplate.opsForValue().multiGet(userIds.stream().map(this::key).toList());
+        int corrected = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            long count = actual.getOrDefault(userId, 0L);
+            String value = cached == null ? null : cached.get(i);
+            if (value != null && Long.parseLong(value) != count) {
+                redisStringTemplate.opsForValue().set(key(userId), String.valueOf(count));
+                push(userId, count);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 사용자별 변경량 반영 후 전송 (커밋 이후 호출, 실패해도 보정 주기에 복구되므로 로그만 남김)
+     */
+    private void apply(Map<Long, Long> deltas) {
+        deltas.forEach((userId, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            try {
+                Long count = redisStringTemplate.execute(ADJUST_IF_EXISTS, List.of(key(userId)), String.valueOf(delta));
+                push(userId, count != null ? count : initialize(userId));
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 카운터 반영 실패: {} - {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 카운터가 없는 사용자의 카운터를 DB 건수로 초기화 (동시에 초기화되면 먼저 저장된 값 사용)
+     */
+    private long initialize(Long userId) {
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        Boolean created = redisStringTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count));
+        if (Boolean.FALSE.equals(created)) {
+            String value = redisStringTemplate.opsForValue().get(key(userId));
+            return value != null ? Long.parseLong(value) : count;
+        }
+        return count;
+    }
+
+    private void push(Long userId, long count) {
+        clusterBroadcastPublisher.send(ClusterBroadcastPublisher.NOTIFICATION_CHANNEL,
+                "/queue/notifications/" + userId, new NotificationCountDto(userId, count));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -10,11 +10,11 @@ import com.orbit.dto.bidding.BiddingEvaluationDto;
 import com.orbit.entity.bidding.Bidding;
 import com.orbit.entity.bidding.BiddingEvaluation;
 import com.orbit.entity.bidding.BiddingParticipation;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.bidding.BiddingEvaluationRepository;
 import com.orbit.repository.bidding.BiddingParticipationRepository;
 import com.orbit.repository.bidding.BiddingRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationOutbox;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +28,7 @@ public class BiddingEvaluationService {
     private final BiddingParticipationRepository participationRepository;
     private final BiddingRepository biddingRepository;
     private final MemberRepository memberRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationOutbox notificationOutbox;
 
     /**
      * 평가 목록 조회
@@ -107,7 +107,7 @@ public class BiddingEvaluationService {
         }
         
         // 평가 생성
-        BiddingEvaluation evaluation = bidding.addEvaluation(participation, evaluatorId, memberRepository, notificationRepository);
+        BiddingEvaluation evaluation = bidding.addEvaluation(participation, evaluatorId, memberRepository, notificationOutbox);
         evaluation = evaluationRepository.save(evaluation);
         
         // 참여 정보 평가 상태 업데이트
@@ -143,7 +143,7 @@ public class BiddingEvaluationService {
         // 참여 정보 업데이트
         if (evaluation.getParticipation() != null) {
             BiddingParticipation participation = evaluation.getParticipation();
-            participation.updateEvaluationStatus(true, evaluation.getTotalScore(), notificationRepository);
+            participation.updateEvaluationStatus(true, evaluation.getTotalScore(), notificationOutbox);
             participationRepository.save(participation);
         }
         
@@ -0,0 +1,118 @@
+package com.orbit.service.bidding;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.repository.bidding.BiddingNumberSequenceRepository;
+import com.orbit.util.BiddingNumberUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래 번호 채번 서비스
+ * - 입찰/계약/발주 번호를 일자별로 중복 없이 할당
+ * - hi/lo 블록 할당: DB 에서는 블록 단위로 범위를 선점하고, 블록 안의 번호는 메모리에서 할당
+ * - 블록 선점은 별도 트랜잭션(REQUIRES_NEW)으로 즉시 커밋하므로 호출 트랜잭션이 롤백되어도 번호가 재사용되지 않음 (번호 공백 허용)
+ */
+@Slf4j
+@Service
+public class BiddingNumberService {
+
+    private final BiddingNumberSequenceRepository sequenceRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final int blockSize;
+
+    // 채번 키별 현재 블록
+    private final Map<String, NumberBlock> blocks = new ConcurrentHashMap<>();
+
+    public BiddingNumberService(BiddingNumberSequenceRepository sequenceRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${bidding.number.block-size:20}") int blockSize) {
+        this.sequenceRepository = sequenceRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 입찰 번호 할당 (BID-YYYYMMDD-XXXX)
+     */
+    public String nextBidNumber() {
+        String dateKey = BiddingNumberUtil.bidDateKey(LocalDate.now());
+        return BiddingNumberUtil.formatBidNumber(dateKey, next(dateKey));
+    }
+
+    /**
+     * 계약 번호 할당 (CNT-YYMMDD-XXX)
+     */
+    public String nextContractNumber() {
+        String dateKey = BiddingNumberUtil.contractDateKey(LocalDate.now());
+        return BiddingNumberUtil.formatShortNumber(dateKey, next(dateKey));
+    }
+
+    /**
+     * 발주 번호 할당 (ORD-YYMMDD-XXX)
+     */
+    public String nextOrderNumber() {
+        String dateKey = BiddingNumberUtil.orderDateKey(LocalDate.now());
+        return BiddingNumberUtil.formatShortNumber(dateKey, next(dateKey));
+    }
+
+    /**
+     * 계약 번호 (입찰 번호 기반, 형식이 다르면 새로 할당)
+     */
+    public String contractNumberFromBidNumber(String bidNumber) {
+        String derived = BiddingNumberUtil.contractNumberFromBidNumber(bidNumber);
+        return derived != null ? derived : nextContractNumber();
+    }
+
+    /**
+     * 채번 키의 다음 일련번호
+     * - 현재 블록에 남은 번호가 있으면 DB 조회 없이 반환
+     */
+    private long next(String sequenceKey) {
+        NumberBlock block = blocks.computeIfAbsent(sequenceKey, key -> new NumberBlock());
+        synchronized (block) {
+            if (block.next > block.last) {
+                long end = reserveBlock(sequenceKey);
+                block.next = end - blockSize + 1;
+                block.last = end;
+                log.debug("채번 블록 선점: {} [{} ~ {}]", sequenceKey, block.next, block.last);
+
+                // 지난 일자의 블록 정리
+                String prefix = sequenceKey.substring(0, sequenceKey.indexOf('-') + 1);
+                blocks.keySet().removeIf(key -> key.startsWith(prefix) && !key.equals(sequenceKey));
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * DB 에서 블록을 선점하고 블록의 마지막 값을 반환
+     */
+    private long reserveBlock(String sequenceKey) {
+        Long nextValue = requiresNewTemplate.execute(status -> {
+            sequenceRepository.reserveBlock(sequenceKey, blockSize);
+            return sequenceRepository.findNextValue(sequenceKey);
+        });
+        if (nextValue == null) {
+            throw new IllegalStateException("채번 블록을 할당할 수 없습니다: " + sequenceKey);
+        }
+        return nextValue - 1;
+    }
+
+    /**
+     * 메모리에 보관하는 번호 블록 [next, last]
+     */
+    private static class NumberBlock {
+        private long next = 1;
+        private long last = 0;
+    }
+}
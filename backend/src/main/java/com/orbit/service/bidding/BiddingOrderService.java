@@ -21,7 +21,6 @@ import com.orbit.repository.bidding.BiddingParticipationRepository;
 import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.member.MemberRepository;
-import com.orbit.util.BiddingNumberUtil;
 import com.orbit.dto.statistics.MonthlyOrderStatisticsDto;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -40,6 +39,7 @@ public class BiddingOrderService {
     private final ChildCodeRepository childCodeRepository; // 사용되지 않지만 주입 필요
     private final BiddingOrderRepository biddingOrderRepository;
     private final DeliveryRepository deliveryRepository;
+    private final BiddingNumberService biddingNumberService;
     /**
      * 발주 목록 조회
      */
@@ -144,7 +144,7 @@ public class BiddingOrderService {
                 .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다. ID: " + createdById));
         
         // 발주 번호 생성
-        String orderNumber = BiddingNumberUtil.generateOrderNumber();
+        String orderNumber = biddingNumberService.nextOrderNumber();
         
         // 엔티티 생성
         BiddingOrder order = BiddingOrder.builder()
@@ -38,7 +38,6 @@ import com.orbit.entity.commonCode.ChildCode;
 import com.orbit.entity.commonCode.ParentCode;
 import com.orbit.entity.commonCode.StatusHistory;
 import com.orbit.entity.member.Member;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.bidding.BiddingContractRepository;
 import com.orbit.repository.bidding.BiddingEvaluationRepository;
 import com.orbit.repository.bidding.BiddingOrderRepository;
@@ -48,7 +47,7 @@ import com.orbit.repository.bidding.BiddingSupplierRepository;
 import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.member.MemberRepository;
-import com.orbit.util.BiddingNumberUtil;
+import com.orbit.service.NotificationOutbox;
 import com.orbit.util.PriceCalculator;
 import com.orbit.util.PriceCalculator.PriceResult;
 
@@ -67,8 +66,9 @@ public class BiddingService {
     private final BiddingSupplierRepository supplierRepository;
     private final BiddingOrderRepository orderRepository;
     private final BiddingEvaluationService evaluationService;
+    private final BiddingNumberService biddingNumberService;
     private final MemberRepository memberRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationOutbox notificationOutbox;
     private final ParentCodeRepository parentCodeRepository;
     private final ChildCodeRepository childCodeRepository;
     private final ResourceLoader resourceLoader;
@@ -325,7 +325,7 @@ public class BiddingService {
     @Transactional
     public BiddingDto createBidding(BiddingFormDto formDto) {
         // 입찰 번호 생성
-        String bidNumber = BiddingNumberUtil.generateBidNumber();
+        String bidNumber = biddingNumberService.nextBidNumber();
         
         // 입찰 공고 엔티티 생성
         Bidding bidding = formDto.toEntity();
@@ -395,7 +395,7 @@ public class BiddingService {
             for (Long supplierId : formDto.getSupplierIds()) {
                 try {
                     // 공급사 초대 생성
-                    BiddingSupplier supplier = bidding.inviteSupplier(supplierId, memberRepository, notificationRepository);
+                    BiddingSupplier supplier = bidding.inviteSupplier(supplierId, memberRepository, notificationOutbox);
                     supplierRepository.save(supplier);
                 } catch (Exception e) {
                     log.error("공급사 초대 중 오류 발생: {}", e.getMessage());
@@ -691,7 +691,7 @@ public class BiddingService {
         evaluationRepository.saveAll(previousWinners);
         
         // 새 낙찰자 선정
-        highestScoringEvaluation.selectAsBidder(notificationRepository, memberRepository);
+        highestScoringEvaluation.selectAsBidder(notificationOutbox, memberRepository);
         BiddingEvaluation savedEvaluation = evaluationRepository.save(highestScoringEvaluation);
         
         // 입찰 공고에서도 낙찰자 선정 처리
@@ -703,7 +703,7 @@ public class BiddingService {
                 .orElseThrow(() -> new EntityNotFoundException("참여 정보를 찾을 수 없습니다. ID: " + savedEvaluation.getBiddingParticipationId()));
         
         // 낙찰자 선정
-        bidding.selectBidder(participation, savedEvaluation, memberRepository, notificationRepository);
+        bidding.selectBidder(participation, savedEvaluation, memberRepository, notificationOutbox);
         
         // 입찰 상태 변경 (마감 상태로)
         Optional<ParentCode> statusParent = parentCodeRepository.findByEntityTypeAndCodeGroup("BIDDING", "STATUS");
@@ -755,10 +755,10 @@ public class BiddingService {
         evaluationRepository.saveAll(previousWinners);
         
         // 새 낙찰자 선정
-        originalEvaluation.selectAsBidder(notificationRepository, memberRepository);
+        originalEvaluation.selectAsBidder(notificationOutbox, memberRepository);
         BiddingEvaluation savedEvaluation = evaluationRepository.save(originalEvaluation);
         
-        bidding.selectBidder(participation, savedEvaluation, memberRepository, notificationRepository);
+        bidding.selectBidder(participation, savedEvaluation, memberRepository, notificationOutbox);
         
         // 입찰 상태 변경 (마감 상태로)
         Optional<ParentCode> statusParent = parentCodeRepository.findByEntityTypeAndCodeGroup("BIDDING", "STATUS");
@@ -828,7 +828,7 @@ public class BiddingService {
         }
         
         // 공급사 초대
-        BiddingSupplier supplier = bidding.inviteSupplier(supplierId, memberRepository, notificationRepository);
+        BiddingSupplier supplier = bidding.inviteSupplier(supplierId, memberRepository, notificationOutbox);
         supplier = supplierRepository.save(supplier);
         
         return BiddingSupplierDto.fromEntity(supplier);
@@ -848,10 +848,10 @@ public class BiddingService {
                 .orElseThrow(() -> new EntityNotFoundException("참여 정보를 찾을 수 없습니다. ID: " + participationId));
         
         // 계약 초안 생성
-        BiddingContract contract = bidding.createContractDraft(participation, memberRepository, notificationRepository);
+        BiddingContract contract = bidding.createContractDraft(participation, memberRepository, notificationOutbox);
         
         // 계약 번호 생성 및 설정
-        String contractNumber = BiddingNumberUtil.generateContractNumberFromBidNumber(bidding.getBidNumber());
+        String contractNumber = biddingNumberService.contractNumberFromBidNumber(bidding.getBidNumber());
         contract.setTransactionNumber(contractNumber);
         
         // 계약 상태 설정
@@ -900,10 +900,10 @@ public class BiddingService {
                 .orElseThrow(() -> new EntityNotFoundException("참여 정보를 찾을 수 없습니다. ID: " + participationId));
         
         // 발주 생성
-        BiddingOrder order = bidding.createOrder(participation, createdById, memberRepository, notificationRepository);
+        BiddingOrder order = bidding.createOrder(participation, createdById, memberRepository, notificationOutbox);
         
         // 발주 번호 자동 생성
-        String orderNumber = BiddingNumberUtil.generateOrderNumber();
+        String orderNumber = biddingNumberService.nextOrderNumber();
         order.setOrderNumber(orderNumber);
         
         // 발주 상태 설정 우선 주석
@@ -9,10 +9,10 @@ import org.springframework.transaction.annotation.Transactional;
 import com.orbit.dto.bidding.BiddingSupplierDto;
 import com.orbit.entity.bidding.Bidding;
 import com.orbit.entity.bidding.BiddingSupplier;
-import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.bidding.BiddingRepository;
 import com.orbit.repository.bidding.BiddingSupplierRepository;
 import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.NotificationOutbox;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +25,7 @@ public class BiddingSupplierService {
     private final BiddingSupplierRepository supplierRepository;
     private final BiddingRepository biddingRepository;
     private final MemberRepository memberRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationOutbox notificationOutbox;
 
     /**
      * 초대된 공급사 목록 조회
@@ -75,7 +75,7 @@ public class BiddingSupplierService {
         }
         
         // 공급사 초대
-        BiddingSupplier supplier = bidding.inviteSupplier(supplierId, memberRepository, notificationRepository);
+        BiddingSupplier supplier = bidding.inviteSupplier(supplierId, memberRepository, notificationOutbox);
         supplier = supplierRepository.save(supplier);
         
         return BiddingSupplierDto.fromEntity(supplier);
@@ -88,7 +88,7 @@ public class BiddingSupplierService {
     public BiddingSupplierDto respondWithParticipation(Long biddingId, Long supplierId) {
         BiddingSupplier supplier = getSupplierByBiddingIdAndSupplierId(biddingId, supplierId);
         
-        supplier.participate(notificationRepository, memberRepository);
+        supplier.participate(notificationOutbox, memberRepository);
         supplier = supplierRepository.save(supplier);
         
         return BiddingSupplierDto.fromEntity(supplier);
@@ -101,7 +101,7 @@ public class BiddingSupplierService {
     public BiddingSupplierDto respondWithRejection(Long biddingId, Long supplierId, String reason) {
         BiddingSupplier supplier = getSupplierByBiddingIdAndSupplierId(biddingId, supplierId);
         
-        supplier.reject(reason, notificationRepository, memberRepository);
+        supplier.reject(reason, notificationOutbox, memberRepository);
         supplier = supplierRepository.save(supplier);
         
         return BiddingSupplierDto.fromEntity(supplier);
@@ -182,7 +182,7 @@ public class BiddingSupplierService {
                 .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
         
         supplier.sendNotification(
-            notificationRepository, 
+            notificationOutbox, 
             memberRepository, 
             "입찰 공고 초대 알림",
             "입찰 공고 '" + bidding.getTitle() + "'에 참여 요청이 왔습니다. 확인해주세요."
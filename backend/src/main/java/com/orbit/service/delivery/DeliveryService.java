@@ -1,17 +1,17 @@
 package com.orbit.service.delivery;
 
 import com.orbit.dto.delivery.DeliveryDto;
-import com.orbit.entity.bidding.BiddingContract;
 import com.orbit.entity.bidding.BiddingOrder;
 import com.orbit.entity.delivery.Delivery;
 import com.orbit.entity.member.Member;
 import com.orbit.entity.procurement.PurchaseRequestItem;
-import com.orbit.repository.bidding.BiddingContractRepository;
 import com.orbit.repository.bidding.BiddingOrderRepository;
 import com.orbit.repository.delivery.DeliveryRepository;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.repository.procurement.PurchaseRequestItemRepository;
+import com.orbit.entity.search.SearchToken;
 import com.orbit.service.bidding.BiddingContractService;
+import com.orbit.service.search.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,7 +32,7 @@ public class DeliveryService {
     private final BiddingOrderRepository biddingOrderRepository;
     private final PurchaseRequestItemRepository purchaseRequestItemRepository;
     private final MemberRepository memberRepository;
-    private final BiddingContractRepository biddingContractRepository;
+    private final SearchIndexService searchIndexService;
 
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(DeliveryService.class);
 
@@ -42,8 +42,18 @@ public class DeliveryService {
     public Page<DeliveryDto.Response> getDeliveries(DeliveryDto.SearchCondition condition) {
         Pageable pageable = PageRequest.of(condition.getPage(), condition.getSize());
 
+        // 통합 검색어는 n-gram 색인으로 조회
+        if (SearchIndexService.isIndexable(condition.getKeyword())) {
+            return searchIndexService.searchDeliveries(condition.getKeyword(), condition, pageable)
+                    .map(DeliveryDto.Response::fromEntity);
+        }
+
+        // 한 글자 검색어는 입고번호 조건으로 처리
+        String deliveryNumber = condition.getDeliveryNumber() == null && condition.getKeyword() != null
+                && !condition.getKeyword().isBlank() ? condition.getKeyword().trim() : condition.getDeliveryNumber();
+
         Page<Delivery> deliveries = deliveryRepository.searchDeliveries(
-                condition.getDeliveryNumber(),
+                deliveryNumber,
                 condition.getOrderNumber(),
                 condition.getSupplierId(),
                 condition.getSupplierName(),
@@ -154,6 +164,7 @@ public class DeliveryService {
 
             // 저장
             Delivery savedDelivery = deliveryRepository.save(delivery);
+            searchIndexService.indexDelivery(savedDelivery);
 
             return DeliveryDto.Response.fromEntity(savedDelivery);
         } catch (Exception e) {
@@ -206,81 +217,19 @@ public class DeliveryService {
     @Transactional
     public void deleteDelivery(Long id) {
         deliveryRepository.deleteById(id);
+        searchIndexService.removeDocument(SearchToken.DocumentType.DELIVERY, id);
     }
 
     public Optional<Delivery> getDeliveryById(Long id) {
         return deliveryRepository.findById(id);
     }
 
+    /**
+     * 송장 미발행 입고 목록 조회 (계약 번호 포함)
+     * - 단일 조인 프로젝션 쿼리 + 페이지 단위 조회
+     */
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> getUninvoicedDeliveriesWithContracts() {
-        List<Delivery> deliveries = deliveryRepository.findByInvoiceIssuedFalse();
-        List<Map<String, Object>> result = new ArrayList<>();
-
-        for (Delivery delivery : deliveries) {
-            Map<String, Object> item = new HashMap<>();
-
-            // 기본 정보
-            item.put("id", delivery.getId());
-            item.put("deliveryNumber", delivery.getDeliveryNumber());
-            item.put("orderNumber", delivery.getOrderNumber());
-            item.put("supplierId", delivery.getSupplierId());
-            item.put("supplierName", delivery.getSupplierName());
-            item.put("itemName", delivery.getItemName());
-            item.put("itemQuantity", delivery.getItemQuantity());
-            item.put("totalAmount", delivery.getTotalAmount());
-            item.put("invoiceIssued", delivery.getInvoiceIssued());
-
-            // 공급자 정보 추가 조회 (중요!)
-            try {
-                // 공급자 ID로 회원 정보 조회
-                Optional<Member> supplierOpt = memberRepository.findById(delivery.getSupplierId());
-                if (supplierOpt.isPresent()) {
-                    Member supplier = supplierOpt.get();
-
-                    // 공급자 추가 정보 설정
-                    item.put("supplierUserName", supplier.getUsername());
-                    item.put("supplierContactPerson", supplier.getName());
-                    item.put("supplierEmail", supplier.getEmail());
-                    item.put("supplierPhone", supplier.getContactNumber());
-
-                    // 주소 조합
-                    String fullAddress = "";
-                    if (supplier.getRoadAddress() != null) {
-                        fullAddress = supplier.getRoadAddress();
-                        if (supplier.getDetailAddress() != null) {
-                            fullAddress += " " + supplier.getDetailAddress();
-                        }
-                    }
-                    item.put("supplierAddress", fullAddress);
-                }
-            } catch (Exception e) {
-                log.warn("공급자 정보 조회 중 오류 발생: {}", e.getMessage());
-                // 기본값 설정
-                item.put("supplierUserName", String.valueOf(delivery.getSupplierId()));
-                item.put("supplierContactPerson", delivery.getSupplierName() + " 담당자");
-                item.put("supplierEmail", "-");
-                item.put("supplierPhone", "-");
-                item.put("supplierAddress", "-");
-            }
-
-            // 계약 번호 조회 (BiddingOrder → Bidding → BiddingContract 관계를 통해)
-            String contractNumber = null;
-            if (delivery.getBiddingOrder() != null && delivery.getBiddingOrder().getBidding() != null) {
-                // 계약 번호를 조회하는 복잡한 로직
-                // 예: BiddingContract 엔티티에서 bidding_id로 조회하여 transactionNumber 가져오기
-                // 실제 구현은 관계 설정에 따라 달라질 수 있음
-                BiddingOrder order = delivery.getBiddingOrder();
-                List<BiddingContract> contracts = biddingContractRepository.findByBiddingId(order.getBiddingId());
-                if (!contracts.isEmpty()) {
-                    contractNumber = contracts.get(0).getTransactionNumber();
-                }
-            }
-
-            item.put("contractNumber", contractNumber);
-            result.add(item);
-        }
-
-        return result;
+    public Page<DeliveryDto.UninvoicedResponse> getUninvoicedDeliveriesWithContracts(String supplierName, Pageable pageable) {
+        return deliveryRepository.findUninvoicedWithContracts(supplierName, pageable);
     }
-}
\ No newline at end of file
+}
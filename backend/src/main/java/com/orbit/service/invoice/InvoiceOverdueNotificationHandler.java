@@ -0,0 +1,60 @@
+package com.orbit.service.invoice;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.orbit.entity.Notification;
+import com.orbit.entity.invoice.Invoice;
+import com.orbit.entity.outbox.OutboxEvent;
+import com.orbit.repository.NotificationRepository;
+import com.orbit.repository.invoice.InvoiceRepository;
+import com.orbit.service.outbox.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 송장 연체 아웃박스 처리기
+ * - 연체 처리된 송장의 공급사에게 알림 생성 (송장은 한 번의 IN 쿼리로 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class InvoiceOverdueNotificationHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "INVOICE_OVERDUE";
+
+    private final InvoiceRepository invoiceRepository;
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        List<Long> invoiceIds = events.stream()
+                .map(OutboxEvent::getAggregateId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        List<Notification> notifications = invoiceRepository.findAllById(invoiceIds).stream()
+                .filter(invoice -> invoice.getSupplier() != null)
+                .map(this::toNotification)
+                .collect(Collectors.toList());
+
+        notificationRepository.saveAll(notifications);
+    }
+
+    private Notification toNotification(Invoice invoice) {
+        return Notification.builder()
+                .user(invoice.getSupplier())
+                .title("송장 연체")
+                .content("송장 '" + invoice.getInvoiceNumber() + "'의 지급 기한(" + invoice.getDueDate() + ")이 지났습니다.")
+                .type(Notification.NotificationType.기타)
+                .relatedId(invoice.getId())
+                .isRead(false)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.orbit.service.invoice;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.orbit.service.scheduler.SchedulerLockService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 송장 연체 처리 스케줄러
+ * - 매일 자정 이후 한 번, 클러스터에서 한 노드만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvoiceOverdueScheduler {
+
+    private static final String LOCK_NAME = "invoice-overdue-sweep";
+
+    private final InvoiceService invoiceService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Scheduled(cron = "${invoice.overdue.cron:0 5 0 * * ?}")
+    public void sweepOverdueInvoices() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10))) {
+            return;
+        }
+        try {
+            int updated = invoiceService.checkOverdueInvoices();
+            log.info("송장 연체 처리 완료: {}건", updated);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+}
@@ -4,19 +4,24 @@ import com.orbit.entity.commonCode.ChildCode;
 import com.orbit.entity.commonCode.ParentCode;
 import com.orbit.entity.commonCode.SystemStatus;
 import com.orbit.entity.invoice.Invoice;
+import com.orbit.entity.search.SearchToken;
 import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.invoice.InvoiceRepository;
+import com.orbit.service.search.SearchIndexService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class InvoiceService {
@@ -24,6 +29,7 @@ public class InvoiceService {
     private final InvoiceRepository invoiceRepository;
     private final ChildCodeRepository childCodeRepository;
     private final ParentCodeRepository parentCodeRepository;
+    private final SearchIndexService searchIndexService;
 
     public List<Invoice> getAllInvoices() {
         return invoiceRepository.findAll();
@@ -33,13 +39,17 @@ public class InvoiceService {
         return invoiceRepository.findById(id);
     }
 
+    @Transactional
     public Invoice createInvoice(Invoice invoice) {
-        return invoiceRepository.save(invoice);
+        Invoice savedInvoice = invoiceRepository.save(invoice);
+        searchIndexService.indexInvoice(savedInvoice);
+        return savedInvoice;
     }
 
     @Transactional
     public void deleteInvoice(Long id) {
         invoiceRepository.deleteById(id);
+        searchIndexService.removeDocument(SearchToken.DocumentType.INVOICE, id);
     }
 
     @Transactional
@@ -62,22 +72,23 @@ public class InvoiceService {
         return invoiceRepository.save(invoice);
     }
 
+    /**
+     * 지급 기한이 지난 대기(WAITING) 송장 연체 처리
+     * - 대상 ID 를 아웃박스에 적재한 뒤 한 번의 UPDATE 로 상태 변경 (같은 트랜잭션)
+     * @return 연체 처리된 송장 수
+     */
     @Transactional
-    public void checkOverdueInvoices() {
+    public int checkOverdueInvoices() {
         LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        int queued = invoiceRepository.enqueueOverdueEvents(today, now);
+        int updated = invoiceRepository.markOverdue(today, now);
 
-        // "WAITING" 상태인 송장들 조회
-        List<Invoice> waitingInvoices = invoiceRepository.findByStatusParentCodeAndStatusChildCode(
-                "INVOICE", "WAITING");
-
-        for (Invoice invoice : waitingInvoices) {
-            if (invoice.getDueDate().isBefore(today)) {
-                // 상태를 "OVERDUE"로 변경
-                SystemStatus overdueSt = new SystemStatus("INVOICE", "OVERDUE");
-                invoice.setStatus(overdueSt);
-                invoiceRepository.save(invoice);
-            }
+        if (queued != updated) {
+            log.warn("연체 처리 건수 불일치: 아웃박스 {}건, 송장 {}건", queued, updated);
         }
+        return updated;
     }
 
     public List<Invoice> getInvoicesByDeliveryId(Long deliveryId) {
@@ -88,7 +99,11 @@ public class InvoiceService {
      * 페이징 및 정렬, 필터링을 적용한 송장 목록 조회
      */
     public Page<Invoice> getFilteredInvoices(String status, String searchTerm, Pageable pageable) {
-        // 상태와 검색어가 모두 있는 경우
+        // 색인 가능한 검색어는 n-gram 색인으로 조회 (순위순)
+        if (SearchIndexService.isIndexable(searchTerm)) {
+            return searchIndexService.searchInvoices(searchTerm, status != null && !status.isEmpty() ? status : null, pageable);
+        }
+        // 상태와 검색어가 모두 있는 경우 (한 글자 검색어)
         if (status != null && !status.isEmpty() && searchTerm != null && !searchTerm.isEmpty()) {
             return invoiceRepository.findByStatusAndSearchTerm("INVOICE", status, searchTerm, pageable);
         }
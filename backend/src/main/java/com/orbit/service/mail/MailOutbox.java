@@ -0,0 +1,222 @@
+package com.orbit.service.mail;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.entity.outbox.MailOutboxMessage;
+import com.orbit.repository.outbox.MailOutboxMessageRepository;
+import com.orbit.util.TransactionUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 아웃박스
+ * - 업무 트랜잭션에서는 발송을 예약만 하고, 커밋 이후 mail_outbox 에 저장한 뒤 발송 스레드 풀에 넘김
+ * - SMTP 발송은 DB 트랜잭션 밖에서 수행하므로 느린 SMTP 서버가 DB 연결/요청 스레드를 점유하지 않음
+ * - 발송 스레드 수와 대기열 크기를 제한하고, 대기열이 차면 주기 실행에서 이어서 발송
+ * - 실패 시 지수 백오프로 재시도하고, 한도를 넘으면 FAILED 로 남김
+ * - 수신자 도메인별 분당 발송 건수를 제한하고, 초과분은 시도 횟수 증가 없이 연기
+ */
+@Slf4j
+@Component
+public class MailOutbox {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private final MailOutboxMessageRepository mailOutboxMessageRepository;
+    private final SmtpConnectionPool smtpConnectionPool;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor senderExecutor;
+    private final int domainLimitPerMinute;
+    private final MeterRegistry meterRegistry;
+
+    // 대기열에 들어간 메일 ID (주기 실행에서 중복 등록 방지)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    // 도메인별 분 단위 발송 건수
+    private final Map<String, DomainWindow> domainWindows = new ConcurrentHashMap<>();
+
+    public MailOutbox(MailOutboxMessageRepository mailOutboxMessageRepository,
+                      SmtpConnectionPool smtpConnectionPool,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${mail.outbox.sender-threads:4}") int senderThreads,
+                      @Value("${mail.outbox.queue-capacity:500}") int queueCapacity,
+                      @Value("${mail.outbox.domain-limit-per-minute:60}") int domainLimitPerMinute) {
+        this.mailOutboxMessageRepository = mailOutboxMessageRepository;
+        this.smtpConnectionPool = smtpConnectionPool;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.domainLimitPerMinute = domainLimitPerMinute;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senderExecutor = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "mail-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 메일 발송 예약 (트랜잭션 안에서는 커밋 이후 저장, 롤백되면 발송하지 않음)
+     */
+    public void enqueue(String to, String subject, String text) {
+        TransactionUtil.runAfterCommit(() -> {
+            try {
+                MailOutboxMessage message = transactionTemplate.execute(status ->
+                        mailOutboxMessageRepository.save(MailOutboxMessage.builder()
+                                .recipient(to)
+                                .recipientDomain(domainOf(to))
+                                .subject(subject)
+                                .body(text)
+                                .build()));
+                submit(message.getId());
+            } catch (Exception e) {
+                log.error("메일 아웃박스 저장 실패: {} - {}", to, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 발송 대상 메일을 발송 스레드 풀에 등록 (대기열 누락분, 재시도, 선점 만료분)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:10000}")
+    public void poll() {
+        try {
+            int capacity = senderExecutor.getQueue().remainingCapacity();
+            if (capacity == 0) {
+                return;
+            }
+            mailOutboxMessageRepository.findDispatchableIds(LocalDateTime.now(), PageRequest.of(0, Math.min(capacity, BATCH_SIZE)))
+                    .forEach(this::submit);
+        } catch (Exception e) {
+            log.error("메일 아웃박스 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        senderExecutor.shutdown();
+        senderExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void submit(Long id) {
+        if (!queued.add(id)) {
+            return;
+        }
+        try {
+            senderExecutor.execute(() -> {
+                queued.remove(id);
+                deliver(id);
+            });
+        } catch (RejectedExecutionException e) {
+            queued.remove(id); // 대기열이 가득 참, 다음 주기 실행에서 발송
+        }
+    }
+
+    /**
+     * 메일 한 건 발송 (선점/결과 기록만 짧은 트랜잭션, SMTP 발송은 트랜잭션 밖)
+     */
+    private void deliver(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        MailOutboxMessage message = transactionTemplate.execute(status ->
+                mailOutboxMessageRepository.claim(id, now, now.plus(LEASE)) == 1
+                        ? mailOutboxMessageRepository.findById(id).orElse(null)
+                        : null);
+        if (message == null) {
+            return; // 다른 스레드/노드에서 선점했거나 이미 처리됨
+        }
+
+        if (!tryAcquire(message.getRecipientDomain())) {
+            LocalDateTime retryAt = LocalDateTime.now().withSecond(0).withNano(0).plusMinutes(1);
+            update(message, m -> m.defer(retryAt));
+            recordOutcome("deferred");
+            return;
+        }
+
+        try {
+            smtpConnectionPool.send(smtpConnectionPool.createMessage(
+                    message.getRecipient(), message.getSubject(), message.getBody()));
+            update(message, MailOutboxMessage::markSent);
+            recordOutcome("sent");
+        } catch (Exception e) {
+            log.warn("메일 발송 실패: {} ({}회) - {}", message.getRecipient(), message.getAttempts() + 1, e.getMessage());
+            update(message, m -> m.markFailed(LocalDateTime.now().plus(backoff(m.getAttempts())), MAX_ATTEMPTS, e.getMessage()));
+            recordOutcome(message.getAttempts() + 1 >= MAX_ATTEMPTS ? "failed" : "retry");
+        }
+    }
+
+    /**
+     * 발송 결과 기록
+     */
+    private void update(MailOutboxMessage message, Consumer<MailOutboxMessage> change) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    mailOutboxMessageRepository.findById(message.getId()).ifPresent(change));
+        } catch (Exception e) {
+            log.error("메일 발송 결과 기록 실패: {} - {}", message.getId(), e.getMessage());
+        }
+    }
+
+    private void recordOutcome(String outcome) {
+        Counter.builder("mail.outbox.delivery")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 도메인별 분당 발송 건수 확인 (노드 단위)
+     */
+    private boolean tryAcquire(String domain) {
+        long minute = System.currentTimeMillis() / 60_000;
+        DomainWindow window = domainWindows.compute(domain, (key, existing) ->
+                existing == null || existing.minute != minute ? new DomainWindow(minute) : existing);
+        return window.count.incrementAndGet() <= domainLimitPerMinute;
+    }
+
+    private static String domainOf(String email) {
+        int at = email.lastIndexOf('@');
+        return at < 0 ? "" : email.substring(at + 1).toLowerCase();
+    }
+
+    /**
+     * 재시도 간격 (30초부터 두 배씩, 최대 1시간)
+     */
+    private static Duration backoff(int attempts) {
+        long seconds = Math.min(3600, 30L << Math.min(attempts, 7));
+        return Duration.ofSeconds(seconds);
+    }
+
+    private static class DomainWindow {
+        private final long minute;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DomainWindow(long minute) {
+            this.minute = minute;
+        }
+    }
+}
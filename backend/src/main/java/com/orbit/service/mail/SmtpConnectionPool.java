@@ -0,0 +1,111 @@
+package com.orbit.service.mail;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMTP 연결 풀
+ * - 메일 발송 스레드마다 SMTP 연결을 하나씩 유지하여 메일마다 접속/인증하지 않음 (연결 수 = 발송 스레드 수)
+ * - 유휴 시간이 지났거나 끊긴 연결은 다시 접속하고, 발송 실패 시 연결을 닫음
+ * - 접속 정보는 spring.mail.* 설정으로 만들어진 JavaMailSenderImpl 을 사용
+ */
+@Slf4j
+@Component
+public class SmtpConnectionPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final long idleTimeoutMillis;
+
+    // 발송 스레드별 연결
+    private final ThreadLocal<PooledTransport> current = new ThreadLocal<>();
+    // 종료 시 닫을 전체 연결
+    private final Set<PooledTransport> connections = ConcurrentHashMap.newKeySet();
+
+    public SmtpConnectionPool(JavaMailSenderImpl mailSender,
+                              @Value("${mail.smtp-pool.idle-timeout:PT60S}") Duration idleTimeout) {
+        this.mailSender = mailSender;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+    }
+
+    /**
+     * 텍스트 메일 생성
+     */
+    public MimeMessage createMessage(String to, String subject, String text) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(text);
+        message.saveChanges();
+        return message;
+    }
+
+    /**
+     * 현재 스레드의 연결로 발송
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        PooledTransport pooled = connectedTransport();
+        try {
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            pooled.lastUsedAt = System.currentTimeMillis();
+        } catch (MessagingException e) {
+            close(pooled);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.forEach(this::close);
+    }
+
+    private PooledTransport connectedTransport() throws MessagingException {
+        PooledTransport pooled = current.get();
+        if (pooled != null && (System.currentTimeMillis() - pooled.lastUsedAt > idleTimeoutMillis
+                || !pooled.transport.isConnected())) {
+            close(pooled);
+            pooled = null;
+        }
+        if (pooled == null) {
+            Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+            transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+            pooled = new PooledTransport(transport);
+            current.set(pooled);
+            connections.add(pooled);
+        }
+        return pooled;
+    }
+
+    private void close(PooledTransport pooled) {
+        connections.remove(pooled);
+        if (current.get() == pooled) {
+            current.remove();
+        }
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private static class PooledTransport {
+        private final Transport transport;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
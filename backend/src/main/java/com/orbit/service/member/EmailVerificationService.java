@@ -1,32 +1,33 @@
 package com.orbit.service.member;
 
-import com.orbit.entity.member.VerificationCode;
-import com.orbit.repository.member.VerificationCodeRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Scheduled;
+import com.orbit.exception.TooManyRequestsException;
+import com.orbit.service.mail.MailOutbox;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
-import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 이메일 인증 관련 기능을 제공하는 서비스 클래스
  * - 인증 코드 생성 및 발송
- * - 인증 코드 검증
+ * - 인증 코드 발송 횟수 제한 (재발송 간격, 기간당 최대 발송 횟수)
+ * - 인증 코드 검증 (시도 횟수 제한, 재발송해도 시도 횟수는 유지)
  * - 이메일 인증 상태 관리
- * - 만료된 인증 코드 정리
+ * - 인증 코드/발송 횟수/시도 횟수/인증 완료 여부는 Redis 에 TTL 로 저장하므로 모든 노드에서 공유되고 만료 시 자동 삭제됨
  */
 @Service
-@RequiredArgsConstructor
 public class EmailVerificationService {
 
-    private final VerificationCodeRepository verificationCodeRepository;
-    private final JavaMailSender emailSender;
+    private static final String CODE_KEY_PREFIX = "EMAIL_VERIFICATION:CODE:";
+    private static final String ATTEMPTS_KEY_PREFIX = "EMAIL_VERIFICATION:ATTEMPTS:";
+    private static final String SENDS_KEY_PREFIX = "EMAIL_VERIFICATION:SENDS:";
+    private static final String COOLDOWN_KEY_PREFIX = "EMAIL_VERIFICATION:COOLDOWN:";
+    private static final String VERIFIED_KEY_PREFIX = "EMAIL_VERIFICATION:VERIFIED:";
 
     // 인증 코드 길이
     private static final int CODE_LENGTH = 6;
@@ -34,31 +35,99 @@ public class EmailVerificationService {
     // 인증 코드 유효 시간 (분)
     private static final int EXPIRATION_MINUTES = 3;
 
-    // 이메일 인증 여부를 저장하는 캐시 (멀티스레드 환경에서도 안전한 ConcurrentHashMap 사용)
-    private final Map<String, Boolean> emailVerificationCache = new ConcurrentHashMap<>();
+    // 이메일당 최대 검증 시도 횟수 (ATTEMPTS_TTL 동안 재발송해도 유지, 초과 시 코드 폐기)
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration ATTEMPTS_TTL = Duration.ofMinutes(30);
+
+    // 재발송 최소 간격
+    private static final Duration RESEND_COOLDOWN = Duration.ofSeconds(60);
+
+    // 이메일당 최대 발송 횟수 (SEND_WINDOW 동안)
+    private static final int MAX_SENDS = 5;
+    private static final Duration SEND_WINDOW = Duration.ofHours(1);
+
+    // 인증 완료 상태 유지 시간 (회원가입 완료 전까지)
+    private static final Duration VERIFIED_TTL = Duration.ofMinutes(30);
+
+    /**
+     * 발송 허용 여부 확인 (원자적으로 재발송 간격 확인 후 발송 횟수 증가)
+     * - 반환값: 1 발송 가능, -1 재발송 간격 미달, -2 발송 횟수 초과
+     */
+    private static final RedisScript<Long> SEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return -1
+            end
+            local sends = redis.call('INCR', KEYS[2])
+            if sends == 1 then
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            end
+            if sends > tonumber(ARGV[1]) then
+                return -2
+            end
+            redis.call('SET', KEYS[1], '1', 'PX', ARGV[3])
+            return 1
+            """, Long.class);
 
     /**
-     * 인증 코드 생성 및 발송
+     * 인증 코드 검증 (원자적으로 시도 횟수 증가, 일치 시 코드 삭제 후 인증 완료 저장)
+     * - 시도 횟수는 코드와 별도 TTL 로 유지하여 재발송으로 초기화되지 않음
+     * - 반환값: 1 인증 성공, 0 코드 불일치, -1 코드 없음(만료), -2 시도 횟수 초과
+     */
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local code = redis.call('GET', KEYS[1])
+            if not code then
+                return -1
+            end
+            local attempts = redis.call('INCR', KEYS[2])
+            if attempts == 1 then
+                redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            end
+            if attempts > tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1])
+                return -2
+            end
+            if code == ARGV[1] then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                redis.call('SET', KEYS[3], '1', 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final MailOutbox mailOutbox; // 비동기 발송
+
+    private final SecureRandom random = new SecureRandom();
+
+    public EmailVerificationService(@Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                                    MailOutbox mailOutbox) {
+        this.redisStringTemplate = redisStringTemplate;
+        this.mailOutbox = mailOutbox;
+    }
+
+    /**
+     * 인증 코드 생성 및 발송 (기존 코드는 새 코드로 대체, 시도 횟수는 유지)
      * @param email 인증 코드를 받을 이메일 주소
      * @return 생성된 인증 코드
+     * @throws TooManyRequestsException 재발송 간격이 지나지 않았거나 발송 횟수를 초과한 경우
      */
-    @Transactional
     public String sendVerificationCode(String email) {
-        // 이미 존재하는 인증 코드가 있으면 삭제
-        VerificationCode existingCode = verificationCodeRepository.findByEmail(email);
-        if (existingCode != null) {
-            verificationCodeRepository.delete(existingCode);
+        // 발송 횟수 제한
+        Long allowed = redisStringTemplate.execute(SEND_SCRIPT,
+                List.of(COOLDOWN_KEY_PREFIX + email, SENDS_KEY_PREFIX + email),
+                String.valueOf(MAX_SENDS), String.valueOf(SEND_WINDOW.toMillis()), String.valueOf(RESEND_COOLDOWN.toMillis()));
+        if (allowed != null && allowed == -1L) {
+            throw new TooManyRequestsException(RESEND_COOLDOWN.toSeconds() + "초 후에 다시 요청해 주세요");
+        }
+        if (allowed != null && allowed == -2L) {
+            throw new TooManyRequestsException("인증 코드 발송 횟수를 초과했습니다. 잠시 후 다시 시도해 주세요");
         }
 
         // 새로운 인증 코드 생성
         String code = generateRandomCode(CODE_LENGTH);
 
-        // 인증 코드 저장
-        VerificationCode verificationCode = new VerificationCode();
-        verificationCode.setEmail(email);
-        verificationCode.setCode(code);
-        verificationCode.setExpirationTime(LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES));
-        verificationCodeRepository.save(verificationCode);
+        // 인증 코드 저장 (만료 시간 = 유효 시간)
+        redisStringTemplate.opsForValue().set(CODE_KEY_PREFIX + email, code, Duration.ofMinutes(EXPIRATION_MINUTES));
 
         // 이메일 발송
         sendEmail(email, "회원가입 이메일 인증 코드",
@@ -72,34 +141,17 @@ public class EmailVerificationService {
 
     /**
      * 인증 코드 검증
+     * - 이메일당 ATTEMPTS_TTL 동안 MAX_ATTEMPTS 회까지 시도할 수 있고, 초과하면 코드를 폐기
      * @param email 이메일 주소
      * @param code 사용자가 입력한 인증 코드
      * @return 인증 성공 여부
      */
-    @Transactional
     public boolean verifyCode(String email, String code) {
-        VerificationCode verificationCode = verificationCodeRepository.findByEmail(email);
-
-        if (verificationCode == null) {
-            return false;
-        }
-
-        // 만료 여부 확인
-        if (verificationCode.isExpired()) {
-            verificationCodeRepository.delete(verificationCode);
-            return false;
-        }
-
-        // 코드 일치 여부 확인
-        if (verificationCode.getCode().equals(code)) {
-            // 인증 성공 시 캐시에 저장
-            setVerified(email);
-            // 사용한 코드는 삭제
-            verificationCodeRepository.delete(verificationCode);
-            return true;
-        }
-
-        return false;
+        Long result = redisStringTemplate.execute(VERIFY_SCRIPT,
+                List.of(CODE_KEY_PREFIX + email, ATTEMPTS_KEY_PREFIX + email, VERIFIED_KEY_PREFIX + email),
+                code, String.valueOf(MAX_ATTEMPTS), String.valueOf(VERIFIED_TTL.toMillis()),
+                String.valueOf(ATTEMPTS_TTL.toMillis()));
+        return result != null && result == 1L;
     }
 
     /**
@@ -108,7 +160,7 @@ public class EmailVerificationService {
      * @return 인증된 경우 true, 그렇지 않으면 false 반환
      */
     public boolean isVerified(String email) {
-        return emailVerificationCache.getOrDefault(email, false);
+        return Boolean.TRUE.equals(redisStringTemplate.hasKey(VERIFIED_KEY_PREFIX + email));
     }
 
     /**
@@ -116,7 +168,7 @@ public class EmailVerificationService {
      * @param email 인증 정보 삭제할 이메일 주소
      */
     public void removeVerified(String email) {
-        emailVerificationCache.remove(email);
+        redisStringTemplate.delete(VERIFIED_KEY_PREFIX + email);
     }
 
     /**
@@ -125,7 +177,6 @@ public class EmailVerificationService {
      * @return 생성된 랜덤 코드
      */
     private String generateRandomCode(int length) {
-        SecureRandom random = new SecureRandom();
         StringBuilder codeBuilder = new StringBuilder();
 
         for (int i = 0; i < length; i++) {
@@ -136,28 +187,13 @@ public class EmailVerificationService {
     }
 
     /**
-     * 이메일 발송
+     * 이메일 발송 (메일 아웃박스에 예약, 백그라운드에서 발송)
      * @param to 수신자 이메일 주소
      * @param subject 제목
      * @param text 내용
      */
     private void sendEmail(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        emailSender.send(message);
-    }
-
-    /**
-     * 만료된 인증 코드 정리 (스케줄링 작업)
-     * 매일 자정에 실행
-     */
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
-    public void cleanExpiredCodes() {
-        LocalDateTime now = LocalDateTime.now();
-        verificationCodeRepository.deleteByExpirationTimeBefore(now);
+        mailOutbox.enqueue(to, subject, text);
     }
 
     /**
@@ -165,6 +201,6 @@ public class EmailVerificationService {
      * @param email 인증이 완료된 이메일 주소
      */
     public void setVerified(String email) {
-        emailVerificationCache.put(email, true);
+        redisStringTemplate.opsForValue().set(VERIFIED_KEY_PREFIX + email, "1", VERIFIED_TTL);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.orbit.service.outbox;
+
+import java.util.List;
+
+import com.orbit.entity.outbox.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 처리기
+ * - 이벤트 유형별로 구현하여 빈으로 등록하면 OutboxRelay 가 배치 단위로 전달
+ */
+public interface OutboxEventHandler {
+
+    /**
+     * 처리하는 이벤트 유형
+     */
+    String getEventType();
+
+    /**
+     * 같은 유형의 이벤트 묶음 처리 (예외 발생 시 이벤트별로 나누어 다시 호출하고, 실패한 이벤트만 재시도)
+     */
+    void handle(List<OutboxEvent> events);
+}
@@ -0,0 +1,279 @@
+package com.orbit.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.entity.outbox.OutboxEvent;
+import com.orbit.entity.outbox.OutboxEvent.OutboxStatus;
+import com.orbit.repository.outbox.OutboxEventRepository;
+import com.orbit.service.scheduler.SchedulerLockService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 전달기
+ * - 커밋된 아웃박스 이벤트를 주기적으로 읽어 유형별 처리기에 배치로 전달
+ * - 클러스터에서는 스케줄러 잠금을 획득한 한 노드만 전달
+ * - 처리기 실패 시 지수 백오프로 재시도하고, 한도를 넘으면 FAILED 로 남김
+ * - 유형별 묶음과 실패 기록은 각각 별도 트랜잭션에서 처리하여 한 이벤트의 실패가 다른 이벤트나 시도 횟수 기록을 되돌리지 않음
+ * - 커밋 직후 wakeUp() 으로 즉시 전달을 요청할 수 있고, 주기 실행은 누락분을 보완
+ * - 지표: outbox.delivery.lag(생성~전달 지연), outbox.delivery(결과별 건수), outbox.pending.oldest.age(최장 대기 시간, 초)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LOCK_NAME = "outbox-relay";
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration LOCK_DURATION = Duration.ofMinutes(1);
+    // 잠금이 만료되어 다른 노드와 겹치지 않도록 잠금 시간보다 짧게 실행
+    private static final Duration RUN_LIMIT = Duration.ofSeconds(45);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, OutboxEventHandler> handlers;
+    private final MeterRegistry meterRegistry;
+
+    // 즉시 전달 요청 처리 (요청이 몰려도 대기 작업은 하나만 유지)
+    private final ExecutorService wakeUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay-wakeup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+
+    // 가장 오래된 전달 대기 이벤트의 대기 시간 (초)
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       SchedulerLockService schedulerLockService,
+                       PlatformTransactionManager transactionManager,
+                       List<OutboxEventHandler> handlers,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::getEventType, Function.identity()));
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("outbox.pending.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 전달 대기 아웃박스 이벤트의 대기 시간(초)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 즉시 전달 요청 (트랜잭션 커밋 이후 호출)
+     * - 다른 스레드/노드가 전달 중이면 잠금을 얻지 못하고 다음 주기 실행에서 전달됨
+     */
+    public void wakeUp() {
+        if (wakeUpQueued.compareAndSet(false, true)) {
+            wakeUpExecutor.execute(() -> {
+                wakeUpQueued.set(false);
+                try {
+                    relay();
+                } catch (Exception e) {
+                    log.error("아웃박스 즉시 전달 실패: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        wakeUpExecutor.shutdown();
+        wakeUpExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:5000}")
+    public void relay() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_DURATION)) {
+            return;
+        }
+        try {
+            long deadline = System.nanoTime() + RUN_LIMIT.toNanos();
+            int fetched;
+            do {
+                fetched = dispatchBatch(deadline);
+            } while (fetched == BATCH_SIZE && System.nanoTime() < deadline);
+            updatePendingAge();
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    /**
+     * 한 배치 전달 (이벤트 유형별로 묶어서 처리기 호출)
+     * - 유형별 묶음은 각자의 트랜잭션에서 처리하므로 한 처리기의 실패가 다른 유형의 전달을 되돌리지 않음
+     * - 묶음 처리가 실패하면 이벤트별 트랜잭션으로 나누어 다시 처리하여 실패한 이벤트만 재시도 대기로 돌림
+     * - 잠금 유지 시간 안에 끝나도록 제한 시각이 지나면 남은 묶음은 다음 주기로 넘김
+     * @return 조회한 이벤트 수
+     */
+    private int dispatchBatch(long deadline) {
+        List<OutboxEvent> events = outboxEventRepository.findDispatchable(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+
+        Map<String, List<Long>> byType = events.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getEventType, LinkedHashMap::new,
+                        Collectors.mapping(OutboxEvent::getId, Collectors.toList())));
+        Map<Long, Long> aggregateIds = events.stream()
+                .collect(Collectors.toMap(OutboxEvent::getId, OutboxEvent::getAggregateId));
+
+        for (Map.Entry<String, List<Long>> entry : byType.entrySet()) {
+            if (System.nanoTime() >= deadline) {
+                return 0;
+            }
+            String eventType = entry.getKey();
+            List<Long> eventIds = entry.getValue();
+            OutboxEventHandler handler = handlers.get(eventType);
+            if (handler == null) {
+                log.warn("아웃박스 처리기가 없습니다: {}", eventType);
+                eventIds.forEach(eventId -> recordFailure(eventType, eventId, false));
+                continue;
+            }
+            try {
+                dispatch(handler, eventIds);
+            } catch (Exception e) {
+                if (eventIds.size() == 1) {
+                    log.error("아웃박스 전달 실패: {} ({}) - {}", eventType, eventIds.get(0), e.getMessage());
+                    recordFailure(eventType, eventIds.get(0), true);
+                    continue;
+                }
+                log.warn("아웃박스 묶음 전달 실패, 이벤트별로 다시 처리: {} ({}건) - {}", eventType, eventIds.size(), e.getMessage());
+                Set<Long> failedAggregates = new HashSet<>();
+                for (Long eventId : eventIds) {
+                    if (System.nanoTime() >= deadline) {
+                        return 0;
+                    }
+                    Long aggregateId = aggregateIds.get(eventId);
+                    if (failedAggregates.contains(aggregateId)) {
+                        continue; // 앞선 이벤트가 재시도 대기 중이면 집합체 순서를 위해 보류
+                    }
+                    try {
+                        dispatch(handler, List.of(eventId));
+                    } catch (Exception eventFailure) {
+                        log.error("아웃박스 전달 실패: {} ({}) - {}", eventType, eventId, eventFailure.getMessage());
+                        recordFailure(eventType, eventId, true);
+                        failedAggregates.add(aggregateId);
+                    }
+                }
+            }
+        }
+
+        return events.size();
+    }
+
+    /**
+     * 이벤트 전달 (별도 트랜잭션, 처리기 예외 시 처리기 변경과 전달 완료 표시가 함께 롤백)
+     */
+    private void dispatch(OutboxEventHandler handler, List<Long> eventIds) {
+        List<OutboxEvent> sent = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findAllById(eventIds).stream()
+                    .filter(event -> event.getStatus() == OutboxStatus.PENDING)
+                    .sorted(Comparator.comparing(OutboxEvent::getId))
+                    .toList();
+            if (!events.isEmpty()) {
+                handler.handle(events);
+                events.forEach(OutboxEvent::markSent);
+            }
+            return events;
+        });
+        if (sent != null && !sent.isEmpty()) {
+            recordDelivered(handler.getEventType(), sent);
+        }
+    }
+
+    /**
+     * 전달 실패 기록 (별도 트랜잭션이므로 처리기 트랜잭션이 롤백되어도 시도 횟수가 남음)
+     * @param withBackoff 재시도 간격 적용 여부 (처리기가 없는 이벤트는 바로 재시도 대상)
+     */
+    private void recordFailure(String eventType, Long eventId, boolean withBackoff) {
+        try {
+            OutboxEvent failed = transactionTemplate.execute(status -> outboxEventRepository.findById(eventId)
+                    .filter(event -> event.getStatus() == OutboxStatus.PENDING)
+                    .map(event -> {
+                        LocalDateTime now = LocalDateTime.now();
+                        event.markFailed(withBackoff ? now.plus(backoff(event.getAttempts())) : now, MAX_ATTEMPTS);
+                        return event;
+                    })
+                    .orElse(null));
+            if (failed != null) {
+                recordFailures(eventType, List.of(failed));
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 실패 기록 실패: {} ({}) - {}", eventType, eventId, e.getMessage());
+        }
+    }
+
+    /**
+     * 전달 완료 지표 (생성 시각부터 전달 시각까지의 지연)
+     */
+    private void recordDelivered(String eventType, List<OutboxEvent> events) {
+        Timer lag = Timer.builder("outbox.delivery.lag")
+                .description("아웃박스 이벤트 생성부터 전달까지의 지연")
+                .tag("type", eventType)
+                .register(meterRegistry);
+        events.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), event.getProcessedAt())));
+        deliveryCounter(eventType, "sent").increment(events.size());
+    }
+
+    /**
+     * 전달 실패 지표 (재시도 예정 / 한도 초과)
+     */
+    private void recordFailures(String eventType, List<OutboxEvent> events) {
+        long failed = events.stream().filter(event -> event.getStatus() == OutboxStatus.FAILED).count();
+        deliveryCounter(eventType, "retry").increment(events.size() - failed);
+        deliveryCounter(eventType, "failed").increment(failed);
+    }
+
+    private Counter deliveryCounter(String eventType, String outcome) {
+        return Counter.builder("outbox.delivery")
+                .tag("type", eventType)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가장 오래된 전달 대기 이벤트의 대기 시간 갱신
+     */
+    private void updatePendingAge() {
+        long ageSeconds = outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+                .map(event -> Math.max(0, Duration.between(event.getCreatedAt(), LocalDateTime.now()).getSeconds()))
+                .orElse(0L);
+        oldestPendingAgeSeconds.set(ageSeconds);
+    }
+
+    /**
+     * 재시도 간격 (5초부터 두 배씩, 최대 10분)
+     */
+    private static Duration backoff(int attempts) {
+        long seconds = Math.min(600, 5L << Math.min(attempts, 7));
+        return Duration.ofSeconds(seconds);
+    }
+}
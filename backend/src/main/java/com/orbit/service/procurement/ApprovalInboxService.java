@@ -0,0 +1,206 @@
+package com.orbit.service.procurement;
+
+import com.orbit.dto.approval.ApprovalInboxCountDTO;
+import com.orbit.dto.approval.ApprovalLineResponseDTO;
+import com.orbit.entity.approval.ApprovalInboxItem;
+import com.orbit.entity.approval.ApprovalInboxItem.Box;
+import com.orbit.entity.approval.ApprovalLine;
+import com.orbit.entity.member.Member;
+import com.orbit.event.publisher.ClusterBroadcastPublisher;
+import com.orbit.exception.ResourceNotFoundException;
+import com.orbit.repository.approval.ApprovalInboxRepository;
+import com.orbit.repository.member.MemberRepository;
+import com.orbit.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결재자별 결재함 서비스
+ * - 결재선 생성/처리 시 변경된 결재선만 결재함 테이블에 반영
+ * - 결재함 조회는 결재자 ID + 결재함 구분 인덱스로 페이지 크기만큼만 읽음
+ * - 결재함 건수가 바뀐 결재자에게는 커밋 이후 사용자 목적지(/user/queue/approval-inbox)로 건수를 전송 (본인 세션만 수신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApprovalInboxService {
+
+    private final ApprovalInboxRepository inboxRepository;
+    private final MemberRepository memberRepository;
+    private final ClusterBroadcastPublisher clusterBroadcastPublisher;
+
+    /**
+     * 결재선 변경분을 결재함에 반영하고 건수 변경을 전송
+     * - 결재선의 상태/결재자는 이미 메모리에 있으므로 결재함 행 조회 1회와 건수 집계 1회만 발생
+     */
+    public void sync(List<ApprovalLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ApprovalInboxItem> existing = inboxRepository.findByApprovalLineIdIn(
+                        lines.stream().map(ApprovalLine::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ApprovalInboxItem::getApprovalLineId, Function.identity()));
+
+        Set<Long> affectedApprovers = new LinkedHashSet<>();
+        Map<Long, String> approverUsernames = new HashMap<>();
+        List<ApprovalInboxItem> toSave = new ArrayList<>();
+        List<ApprovalInboxItem> toDelete = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (ApprovalLine line : lines) {
+            ApprovalInboxItem item = existing.get(line.getId());
+            Long approverId = line.getApprover().getId();
+            approverUsernames.put(approverId, line.getApprover().getUsername());
+            Box box = Box.of(line.getStatus().getCodeValue());
+
+            if (item != null) {
+                affectedApprovers.add(item.getApproverId());
+            }
+            if (box == null) {
+                // 결재함에 표시하지 않는 상태 (예: 기안자 REQUESTED)
+                if (item != null) {
+                    toDelete.add(item);
+                }
+                continue;
+            }
+            if (item == null) {
+                item = ApprovalInboxItem.builder().approvalLineId(line.getId()).build();
+            }
+            item.setApproverId(approverId);
+            item.setPurchaseRequestId(line.getPurchaseRequest().getId());
+            item.setBox(box);
+            item.setStep(line.getStep());
+            item.setStatusCode(line.getStatus().getCodeValue());
+            item.setStatusName(line.getStatus().getCodeName());
+            item.setApprovedAt(line.getApprovedAt());
+            item.setComment(line.getComment());
+            item.setUpdatedAt(now);
+            toSave.add(item);
+            affectedApprovers.add(approverId);
+        }
+
+        inboxRepository.deleteAll(toDelete);
+        inboxRepository.saveAll(toSave);
+        inboxRepository.flush();
+
+        pushCounts(affectedApprovers, approverUsernames);
+    }
+
+    /**
+     * 사용자의 결재함 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<ApprovalLineResponseDTO> getInbox(String username, Box box, Pageable pageable) {
+        Member member = findMember(username);
+        return inboxRepository.findInbox(member.getId(), box, pageable)
+                .map(item -> convertToDTO(item, member));
+    }
+
+    /**
+     * 사용자의 결재함 전체 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ApprovalLineResponseDTO> getInbox(String username, Box box) {
+        Member member = findMember(username);
+        return inboxRepository.findInbox(member.getId(), box).stream()
+                .map(item -> convertToDTO(item, member))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 사용자의 결재함 건수 (배지 초기값, 이후에는 WebSocket 으로 갱신)
+     */
+    @Transactional(readOnly = true)
+    public ApprovalInboxCountDTO getCounts(String username) {
+        Long memberId = findMember(username).getId();
+        return countByApprovers(Set.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 결재함이 비어 있으면 기존 결재선으로 적재
+     */
+    public void rebuildIfEmpty() {
+        if (inboxRepository.count() > 0) {
+            return;
+        }
+        int inserted = inboxRepository.backfillFromApprovalLines();
+        log.info("결재함 초기 적재: {}건", inserted);
+    }
+
+    /**
+     * 결재자별 건수를 각 결재자의 사용자 목적지로 전송 (결재선에 없던 이전 결재자의 사용자명은 한 번에 조회)
+     */
+    private void pushCounts(Set<Long> approverIds, Map<Long, String> knownUsernames) {
+        if (approverIds.isEmpty()) {
+            return;
+        }
+        Map<Long, ApprovalInboxCountDTO> counts = countByApprovers(approverIds);
+
+        Map<Long, String> usernames = new HashMap<>(knownUsernames);
+        List<Long> missing = approverIds.stream().filter(id -> !usernames.containsKey(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            memberRepository.findAllById(missing).forEach(member -> usernames.put(member.getId(), member.getUsername()));
+        }
+
+        TransactionUtil.runAfterCommit(() -> counts.forEach((approverId, count) -> {
+            String username = usernames.get(approverId);
+            if (username != null) {
+                clusterBroadcastPublisher.sendToUser(ClusterBroadcastPublisher.APPROVAL_CHANNEL,
+                        username, "/queue/approval-inbox", count);
+            }
+        }));
+    }
+
+    private Map<Long, ApprovalInboxCountDTO> countByApprovers(Set<Long> approverIds) {
+        Map<Long, ApprovalInboxCountDTO> counts = new HashMap<>();
+        approverIds.forEach(id -> counts.put(id, ApprovalInboxCountDTO.builder().approverId(id).build()));
+
+        for (Object[] row : inboxRepository.countByApproverIds(approverIds)) {
+            ApprovalInboxCountDTO count = counts.get((Long) row[0]);
+            long value = (Long) row[2];
+            if (row[1] == Box.PENDING) {
+                count.setPendingCount(value);
+            } else {
+                count.setCompletedCount(value);
+            }
+        }
+        return counts;
+    }
+
+    private Member findMember(String username) {
+        return memberRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + username));
+    }
+
+    private ApprovalLineResponseDTO convertToDTO(ApprovalInboxItem item, Member approver) {
+        return ApprovalLineResponseDTO.builder()
+                .id(item.getApprovalLineId())
+                .purchaseRequestId(item.getPurchaseRequestId())
+                .approverId(item.getApproverId())
+                .approverName(approver.getName())
+                .department(approver.getDepartment() != null ? approver.getDepartment().getName() : null)
+                .step(item.getStep())
+                .statusCode(item.getStatusCode())
+                .statusName(item.getStatusName())
+                .approvedAt(item.getApprovedAt())
+                .comment(item.getComment())
+                .build();
+    }
+}
@@ -1,33 +1,44 @@
 package com.orbit.service.procurement;
 
+import com.orbit.dto.approval.ApprovalBatchProcessDTO;
+import com.orbit.dto.approval.ApprovalBatchResultDTO;
+import com.orbit.dto.approval.ApprovalLineChangeDTO;
 import com.orbit.dto.approval.ApprovalLineCreateDTO;
 import com.orbit.dto.approval.ApprovalLineResponseDTO;
+import com.orbit.dto.approval.ApprovalLineSnapshotDTO;
 import com.orbit.dto.approval.ApprovalProcessDTO;
+import com.orbit.entity.approval.ApprovalInboxItem;
 import com.orbit.entity.approval.ApprovalLine;
-import com.orbit.entity.approval.Department;
 import com.orbit.entity.approval.Position;
 import com.orbit.entity.commonCode.ChildCode;
 import com.orbit.entity.commonCode.ParentCode;
 import com.orbit.entity.member.Member;
 import com.orbit.entity.procurement.PurchaseRequest;
+import com.orbit.event.publisher.ClusterBroadcastPublisher;
 import com.orbit.exception.ApprovalException;
 import com.orbit.exception.ResourceNotFoundException;
 import com.orbit.repository.approval.ApprovalLineRepository;
-import com.orbit.repository.approval.DepartmentRepository;
 import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.repository.procurement.PurchaseRequestRepository;
+import com.orbit.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -44,9 +55,13 @@ public class ApprovalLineService {
     private final MemberRepository memberRepo;
     private final ParentCodeRepository parentCodeRepo;
     private final ChildCodeRepository childCodeRepo;
-    private final DepartmentRepository departmentRepo; // 추가된 Repository
-    private final SimpMessagingTemplate messagingTemplate;
+    private final OrgChartIndex orgChartIndex; // 결재자 자동 지정용 조직도 색인
+    private final ApprovalInboxService approvalInboxService; // 결재자별 결재함
+    private final ApprovalSlaTracker approvalSlaTracker; // 결재 단계별 소요 시간 측정 및 지연 알림
+    private final ClusterBroadcastPublisher clusterBroadcastPublisher; // 모든 노드의 WebSocket 구독자에게 전달
     private static final int MAX_APPROVAL_STEPS = 3;
+    private static final String CHANGE_CREATED = "CREATED";
+    private static final String CHANGE_UPDATED = "UPDATED";
 
     // 결재선 생성 메서드
     public ApprovalLineResponseDTO createApprovalLine(ApprovalLineCreateDTO dto) {
@@ -64,116 +79,15 @@ public class ApprovalLineService {
         List<ApprovalLine> lines = createApprovalLines(request, dto.getApproverIds(), parentCode);
         approvalLineRepo.saveAll(lines);
 
-        // 실시간 업데이트
-        sendRealTimeUpdate(request.getId());
+        // SLA 추적, 결재함 갱신 및 실시간 업데이트 (생성된 결재선 전달)
+        approvalSlaTracker.track(lines);
+        approvalInboxService.sync(lines);
+        publishLineChanges(request.getId(), CHANGE_CREATED, lines);
 
         // 생성된 첫 번째 결재선 응답 DTO 반환
         return convertToDTO(lines.get(0));
     }
 
-    // 결재 가능한 멤버 조회 메서드
-    private List<Member> findEligibleMembersForApproval(PurchaseRequest request) {
-        // 기안자의 부서 가져오기
-        Department requesterDepartment = request.getMember().getDepartment();
-
-        List<Member> approvers = new ArrayList<>();
-
-        // 1. 해당 부서의 상위 직급 멤버 (팀장/부서장) 조회
-        List<Member> departmentHeads = memberRepo.findByDepartmentAndPositionLevelGreaterThan(
-                requesterDepartment,
-                requesterDepartment.getTeamLeaderLevel() // 팀장 직급 수준
-        );
-
-        // 2. 재무/구매팀 담당자 조회 - 예외 처리 추가하여 찾을 수 없는 경우 다른 부서를 사용
-        Department financeDepartment = null;
-        try {
-            financeDepartment = departmentRepo.findByName("재무팀")
-                    .orElseGet(() -> departmentRepo.findByName("재무회계팀")
-                            .orElse(null));
-        } catch (Exception e) {
-            log.warn("재무팀 또는 재무회계팀을 찾을 수 없습니다: {}", e.getMessage());
-        }
-
-        Department purchaseDepartment = null;
-        try {
-            purchaseDepartment = departmentRepo.findByName("구매팀")
-                    .orElseGet(() -> departmentRepo.findByName("구매관리팀")
-                            .orElse(null));
-        } catch (Exception e) {
-            log.warn("구매팀 또는 구매관리팀을 찾을 수 없습니다: {}", e.getMessage());
-        }
-
-        List<Member> financeMembers = new ArrayList<>();
-        if (financeDepartment != null) {
-            financeMembers = memberRepo.findByDepartmentAndPositionLevelBetween(
-                    financeDepartment,
-                    financeDepartment.getMiddleManagerLevel(),
-                    financeDepartment.getUpperManagerLevel()
-            );
-        }
-
-        List<Member> purchaseMembers = new ArrayList<>();
-        if (purchaseDepartment != null) {
-            purchaseMembers = memberRepo.findByDepartmentAndPositionLevelBetween(
-                    purchaseDepartment,
-                    purchaseDepartment.getMiddleManagerLevel(),
-                    purchaseDepartment.getUpperManagerLevel()
-            );
-        }
-
-        // 3. 임원 조회 - 예외 처리 추가
-        Department executiveDept = null;
-        try {
-            executiveDept = departmentRepo.findByName("임원")
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("임원 부서를 찾을 수 없습니다: {}", e.getMessage());
-        }
-
-        List<Member> executives = new ArrayList<>();
-        if (executiveDept != null) {
-            executives = memberRepo.findByPositionLevelGreaterThan(
-                    executiveDept.getExecutiveLevel()
-            );
-        } else {
-            // 임원 부서가 없는 경우 직급 수준이 높은 멤버를 임원으로 간주
-            // 직급 수준 상수 대신 직접 숫자 값을 사용 (예: 8이 임원급 직급 수준이라고 가정)
-            executives = memberRepo.findByPositionLevelGreaterThan(8);
-        }
-
-        // 결재선 구성
-        // 1. 기안자 부서의 팀장/부서장 중 한 명
-        if (!departmentHeads.isEmpty()) {
-            approvers.add(departmentHeads.get(0));
-        }
-
-        // 2. 재무팀 또는 구매팀 담당자 중 한 명
-        if (!financeMembers.isEmpty()) {
-            approvers.add(financeMembers.get(0));
-        } else if (!purchaseMembers.isEmpty()) {
-            approvers.add(purchaseMembers.get(0));
-        }
-
-        // 3. 임원 중 한 명
-        if (!executives.isEmpty()) {
-            approvers.add(executives.get(0));
-        }
-
-        // 필요한 승인자 수를 맞추기 위해 추가 로직
-        while (approvers.size() < 3) {
-            // 직급 높은 순으로 정렬된 전체 멤버 중 추가
-            List<Member> allMembers = memberRepo.findAllSortedByPositionLevel();
-            for (Member member : allMembers) {
-                if (!approvers.contains(member)) {
-                    approvers.add(member);
-                    break;
-                }
-            }
-        }
-
-        return approvers;
-    }
-
     // createAutoApprovalLine 메서드 수정
     public ApprovalLineResponseDTO createAutoApprovalLine(ApprovalLineCreateDTO dto) {
         // 구매 요청 조회
@@ -183,8 +97,10 @@ public class ApprovalLineService {
         // 상위 상태 코드 조회
         ParentCode parentCode = findParentCode(ENTITY_TYPE, CODE_GROUP);
 
-        // 부서를 고려한 결재 가능한 멤버 조회
-        List<Member> approvers = findEligibleMembersForApproval(request);
+        // 부서를 고려한 결재 가능한 멤버 조회 (조직도 색인 사용, 멤버는 참조만 생성)
+        List<Member> approvers = orgChartIndex.resolveApproverIds(request.getMember().getId()).stream()
+                .map(memberRepo::getReferenceById)
+                .collect(Collectors.toList());
 
         // 현재 사용자(기안자)를 첫 번째 단계로 설정
         Member requester = request.getMember();
@@ -219,8 +135,10 @@ public class ApprovalLineService {
 
         approvalLineRepo.saveAll(lines);
 
-        // 실시간 업데이트
-        sendRealTimeUpdate(request.getId());
+        // SLA 추적, 결재함 갱신 및 실시간 업데이트 (생성된 결재선 전달)
+        approvalSlaTracker.track(lines);
+        approvalInboxService.sync(lines);
+        publishLineChanges(request.getId(), CHANGE_CREATED, lines);
 
         // 생성된 첫 번째 결재선 응답 DTO 반환
         return convertToDTO(lines.get(0));
@@ -266,59 +184,171 @@ public class ApprovalLineService {
         ChildCode nextStatus = findChildCode(parentCode, dto.getNextStatusCode());
 
         // 결재 처리
-        processApprovalAction(line, dto, nextStatus, parentCode);
+        List<ApprovalLine> changedLines = processApprovalAction(line, dto, nextStatus, parentCode);
 
-        // 실시간 업데이트
-        sendRealTimeUpdate(line.getPurchaseRequest().getId());
+        // SLA 추적, 결재함 갱신 및 실시간 업데이트 (처리한 결재선과 상태가 바뀐 다음 단계만 전달)
+        approvalSlaTracker.track(changedLines);
+        approvalInboxService.sync(changedLines);
+        publishLineChanges(line.getPurchaseRequest().getId(), CHANGE_UPDATED, changedLines);
 
         return convertToDTO(line);
     }
 
-    // 결재 처리 액션 메서드
-    private void processApprovalAction(ApprovalLine line, ApprovalProcessDTO dto,
-                                       ChildCode nextStatus, ParentCode parentCode) {
+    // 결재 처리 액션 메서드 (상태가 바뀐 결재선 반환)
+    private List<ApprovalLine> processApprovalAction(ApprovalLine line, ApprovalProcessDTO dto,
+                                                     ChildCode nextStatus, ParentCode parentCode) {
+        List<ApprovalLine> changedLines = new ArrayList<>();
+        changedLines.add(line);
+
         switch (dto.getAction().toUpperCase()) {
             case "APPROVE":
                 line.approve(dto.getComment(), nextStatus);
-                advanceToNextStep(line, parentCode);
+                changedLines.addAll(advanceToNextStep(line, parentCode));
                 break;
             case "REJECT":
                 line.reject(dto.getComment(), nextStatus);
-                cancelRemainingSteps(line, parentCode);
+                changedLines.addAll(cancelRemainingSteps(line, parentCode));
                 break;
             default:
                 throw new ApprovalException("잘못된 결재 액션: " + dto.getAction());
         }
 
         approvalLineRepo.save(line);
+        return changedLines;
     }
 
     // 다음 단계로 진행
-    private void advanceToNextStep(ApprovalLine currentLine, ParentCode parentCode) {
+    private List<ApprovalLine> advanceToNextStep(ApprovalLine currentLine, ParentCode parentCode) {
         List<ApprovalLine> lines = approvalLineRepo.findAllByRequestId(currentLine.getPurchaseRequest().getId());
         ChildCode inReviewStatus = findChildCode(parentCode, "IN_REVIEW");
 
-        lines.stream()
+        return lines.stream()
                 .filter(l -> l.getStep() > currentLine.getStep())
                 .findFirst()
-                .ifPresent(nextLine -> {
+                .map(nextLine -> {
                     nextLine.setStatus(inReviewStatus);
                     approvalLineRepo.save(nextLine);
                     sendApprovalNotification(nextLine);
-                });
+                    return List.of(nextLine);
+                })
+                .orElse(List.of());
     }
 
     // 남은 단계 취소
-    private void cancelRemainingSteps(ApprovalLine rejectedLine, ParentCode parentCode) {
+    private List<ApprovalLine> cancelRemainingSteps(ApprovalLine rejectedLine, ParentCode parentCode) {
         ChildCode rejectedStatus = findChildCode(parentCode, "REJECTED");
 
-        approvalLineRepo.findCurrentStep(rejectedLine.getPurchaseRequest().getId())
+        List<ApprovalLine> cancelledLines = approvalLineRepo.findCurrentStep(rejectedLine.getPurchaseRequest().getId())
                 .stream()
                 .filter(l -> l.getStep() > rejectedLine.getStep())
-                .forEach(l -> {
-                    l.setStatus(rejectedStatus);
-                    approvalLineRepo.save(l);
-                });
+                .collect(Collectors.toList());
+
+        cancelledLines.forEach(l -> {
+            l.setStatus(rejectedStatus);
+            approvalLineRepo.save(l);
+        });
+        return cancelledLines;
+    }
+
+    // 일괄 결재 처리 메서드
+    // - 처리 대상 결재선과 같은 구매 요청의 결재선을 두 번의 조회로 읽고 단계 진행은 메모리에서 처리
+    // - 변경분은 JDBC 배치 UPDATE 로 반영하고, 실시간 업데이트는 구매 요청별로 한 번만 전송
+    // - 처리할 수 없는 결재선은 건너뛰고 사유를 결과에 포함
+    public ApprovalBatchResultDTO processApprovals(ApprovalBatchProcessDTO dto) {
+        String action = dto.getAction().toUpperCase();
+        if (!"APPROVE".equals(action) && !"REJECT".equals(action)) {
+            throw new ApprovalException("잘못된 결재 액션: " + dto.getAction());
+        }
+
+        String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+        Member currentMember = memberRepo.findByUsername(currentUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + currentUsername));
+
+        // 상태 코드는 한 번만 조회
+        ParentCode parentCode = findParentCode(ENTITY_TYPE, CODE_GROUP);
+        ChildCode nextStatus = findChildCode(parentCode, dto.getNextStatusCode());
+        ChildCode inReviewStatus = findChildCode(parentCode, "IN_REVIEW");
+        ChildCode rejectedStatus = findChildCode(parentCode, "REJECTED");
+
+        // 처리 대상 결재선과 같은 구매 요청의 결재선 (같은 영속성 컨텍스트이므로 동일 인스턴스)
+        Set<Long> lineIds = new LinkedHashSet<>(dto.getLineIds());
+        List<ApprovalLine> targets = new ArrayList<>(approvalLineRepo.findAllWithStatusByIdIn(lineIds));
+        Map<Long, List<ApprovalLine>> linesByRequest = approvalLineRepo.findAllWithStatusByRequestIdIn(
+                        targets.stream().map(l -> l.getPurchaseRequest().getId()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.groupingBy(l -> l.getPurchaseRequest().getId()));
+
+        ApprovalBatchResultDTO result = ApprovalBatchResultDTO.builder().build();
+        Set<Long> foundIds = targets.stream().map(ApprovalLine::getId).collect(Collectors.toSet());
+        lineIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .forEach(id -> result.getFailures().add(new ApprovalBatchResultDTO.Failure(id, "결재선을 찾을 수 없습니다.")));
+
+        // 같은 구매 요청의 여러 단계를 선택한 경우 앞 단계부터 처리해야 다음 단계가 결재 차례가 됨
+        targets.sort(Comparator.comparing((ApprovalLine l) -> l.getPurchaseRequest().getId())
+                .thenComparing(ApprovalLine::getStep));
+
+        Map<Long, Set<ApprovalLine>> changedByRequest = new LinkedHashMap<>();
+        List<ApprovalLine> nextLines = new ArrayList<>();
+
+        for (ApprovalLine line : targets) {
+            if (!Objects.equals(line.getApprover().getId(), currentMember.getId())) {
+                result.getFailures().add(new ApprovalBatchResultDTO.Failure(line.getId(), "결재자가 아닙니다."));
+                continue;
+            }
+            if (!"IN_REVIEW".equals(line.getStatus().getCodeValue())) {
+                result.getFailures().add(new ApprovalBatchResultDTO.Failure(line.getId(), "결재 차례가 아닙니다."));
+                continue;
+            }
+
+            Long requestId = line.getPurchaseRequest().getId();
+            List<ApprovalLine> laterSteps = linesByRequest.get(requestId).stream()
+                    .filter(l -> l.getStep() > line.getStep())
+                    .collect(Collectors.toList());
+            Set<ApprovalLine> changed = changedByRequest.computeIfAbsent(requestId, id -> new LinkedHashSet<>());
+            changed.add(line);
+
+            if ("APPROVE".equals(action)) {
+                line.approve(dto.getComment(), nextStatus);
+                if (!laterSteps.isEmpty()) {
+                    ApprovalLine nextLine = laterSteps.get(0);
+                    nextLine.setStatus(inReviewStatus);
+                    changed.add(nextLine);
+                    nextLines.add(nextLine);
+                }
+            } else {
+                line.reject(dto.getComment(), nextStatus);
+                laterSteps.stream()
+                        .filter(l -> ApprovalInboxItem.Box.of(l.getStatus().getCodeValue()) == ApprovalInboxItem.Box.PENDING)
+                        .forEach(l -> {
+                            l.setStatus(rejectedStatus);
+                            changed.add(l);
+                        });
+            }
+            result.getProcessed().add(convertToDTO(line));
+        }
+
+        if (changedByRequest.isEmpty()) {
+            return result;
+        }
+
+        List<ApprovalLine> changedLines = changedByRequest.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toList());
+        approvalLineRepo.saveAll(changedLines);
+
+        // SLA 추적 및 결재함 갱신 (결재함 반영 시 flush 되어 결재선 UPDATE 가 배치로 실행됨)
+        approvalSlaTracker.track(changedLines);
+        approvalInboxService.sync(changedLines);
+
+        // 구매 요청별 실시간 업데이트 한 번씩
+        changedByRequest.forEach((requestId, lines) ->
+                publishLineChanges(requestId, CHANGE_UPDATED, new ArrayList<>(lines)));
+        nextLines.forEach(this::sendApprovalNotification);
+
+        log.info("일괄 결재 처리: {} {}건, 실패 {}건, 구매 요청 {}건",
+                action, result.getProcessed().size(), result.getFailures().size(), changedByRequest.size());
+        return result;
     }
 
     // 결재선 생성 보조 메서드
@@ -366,10 +396,48 @@ public class ApprovalLineService {
                         "결재자를 찾을 수 없습니다. ID: " + approverId));
     }
 
-    // 실시간 업데이트 및 DTO 변환 메서드
-    private void sendRealTimeUpdate(Long requestId) {
-        List<ApprovalLineResponseDTO> lines = getApprovalLines(requestId);
-        messagingTemplate.convertAndSend("/topic/approvals/" + requestId, lines);
+    // 실시간 업데이트 - 결재선 변경분과 버전 전송
+    // - 전체 결재선을 다시 조회하지 않고 변경된 결재선만 메모리 상태로 변환
+    // - 롤백된 변경이 전파되지 않도록 커밋 이후 전송
+    private void publishLineChanges(Long requestId, String changeType, List<ApprovalLine> changedLines) {
+        purchaseRequestRepo.incrementApprovalVersion(requestId);
+        Long version = purchaseRequestRepo.findApprovalVersion(requestId);
+
+        ApprovalLineChangeDTO change = ApprovalLineChangeDTO.builder()
+                .purchaseRequestId(requestId)
+                .version(version)
+                .changeType(changeType)
+                .changedAt(LocalDateTime.now())
+                .lines(changedLines.stream()
+                        .map(this::convertToLineChange)
+                        .collect(Collectors.toList()))
+                .build();
+
+        TransactionUtil.runAfterCommit(() -> clusterBroadcastPublisher.send(
+                ClusterBroadcastPublisher.APPROVAL_CHANNEL, "/topic/approvals/" + requestId, change));
+    }
+
+    private ApprovalLineChangeDTO.LineChange convertToLineChange(ApprovalLine line) {
+        return ApprovalLineChangeDTO.LineChange.builder()
+                .id(line.getId())
+                .step(line.getStep())
+                .approverId(line.getApprover().getId())
+                .statusCode(line.getStatus().getCodeValue())
+                .approvedAt(line.getApprovedAt())
+                .comment(line.getComment())
+                .build();
+    }
+
+    // 결재선 전체 스냅샷 (버전 누락 시 클라이언트 재동기화용)
+    @Transactional(readOnly = true)
+    public ApprovalLineSnapshotDTO getApprovalLineSnapshot(Long requestId) {
+        // 버전을 먼저 읽어 스냅샷이 버전보다 오래된 상태가 되지 않도록 함
+        Long version = purchaseRequestRepo.findApprovalVersion(requestId);
+        return ApprovalLineSnapshotDTO.builder()
+                .purchaseRequestId(requestId)
+                .version(version)
+                .lines(getApprovalLines(requestId))
+                .build();
     }
 
     // 특정 구매 요청의 현재 결재선 조회
@@ -420,10 +488,7 @@ public class ApprovalLineService {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
 
-        return approvalLineRepo.findPendingApprovalsByUsername(currentUsername)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return approvalInboxService.getInbox(currentUsername, ApprovalInboxItem.Box.PENDING);
     }
 
     // 사용자의 완료된 결재 목록 조회
@@ -432,10 +497,7 @@ public class ApprovalLineService {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
 
-        return approvalLineRepo.findCompletedApprovalsByUsername(currentUsername)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return approvalInboxService.getInbox(currentUsername, ApprovalInboxItem.Box.COMPLETED);
     }
 
     // 알림 전송 메서드 개선
@@ -476,7 +538,8 @@ public class ApprovalLineService {
     private void sendWebSocketNotification(ApprovalLine line) {
         // 실시간 웹소켓 알림
         ApprovalLineResponseDTO notificationDto = convertToDTO(line);
-        messagingTemplate.convertAndSendToUser(
+        clusterBroadcastPublisher.sendToUser(
+                ClusterBroadcastPublisher.APPROVAL_CHANNEL,
                 line.getApprover().getUsername(),
                 "/queue/approvals",
                 notificationDto
@@ -0,0 +1,345 @@
+package com.orbit.service.procurement;
+
+import com.orbit.entity.Notification.NotificationType;
+import com.orbit.entity.approval.ApprovalLine;
+import com.orbit.entity.member.Member;
+import com.orbit.repository.approval.ApprovalLineRepository;
+import com.orbit.service.NotificationService;
+import com.orbit.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결재 SLA 추적기
+ * - 결재선이 결재 차례(IN_REVIEW)가 된 시각과 처리 시각으로 단계별 소요 시간을 측정
+ * - 소요 시간은 부서/결과별 타이머(approval.step.duration)로 기록하고, 고정된 SLA 구간(1/4/24/72시간) 이내 건수를 함께 집계
+ *   (태그 값은 알려진 결과와 일정 수의 부서로 제한하고 나머지는 other)
+ * - 결재 차례가 되면 알림/에스컬레이션 타이머를 메모리 지연 큐에 등록하고, 만료된 타이머만 처리
+ * - 기동 시와 주기적으로 결재 중인 결재선을 읽어 이 노드에 없는 타이머를 등록 (다른 노드가 종료되어도 타이머가 남음)
+ * - 발송 여부는 조건부 UPDATE 로 선점하므로 여러 노드가 같은 타이머를 가지고 있어도 한 번만 발송
+ */
+@Slf4j
+@Component
+public class ApprovalSlaTracker {
+
+    private static final String IN_REVIEW = "IN_REVIEW";
+    private static final List<String> KNOWN_OUTCOMES = List.of("APPROVED", "REJECTED");
+    private static final int MAX_DEPARTMENT_TAGS = 50;
+    private static final String OTHER_TAG = "other";
+    private static final Duration[] SLA_BOUNDARIES = {
+            Duration.ofHours(1), Duration.ofHours(4), Duration.ofHours(24), Duration.ofHours(72)};
+    // 재조회 시 정리 대상에서 제외할 최근 결재 차례 (조회 이후 커밋된 결재선 보호)
+    private static final Duration PRUNE_GRACE = Duration.ofMinutes(5);
+
+    private final ApprovalLineRepository approvalLineRepository;
+    private final NotificationService notificationService;
+    private final OrgChartIndex orgChartIndex;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration remindAfter;
+    private final Duration escalateAfter;
+
+    // 만료 시각 순 타이머
+    private final DelayQueue<SlaTimer> timers = new DelayQueue<>();
+
+    // 결재 중인 결재선 ID - 결재 차례가 된 시각 (처리된 결재선의 타이머는 만료 시 무시)
+    private final Map<Long, LocalDateTime> inReview = new ConcurrentHashMap<>();
+
+    // 지표 태그로 사용 중인 부서 (MAX_DEPARTMENT_TAGS 까지)
+    private final Set<String> departmentTags = ConcurrentHashMap.newKeySet();
+
+    private final Counter reminders;
+    private final Counter escalations;
+    private final Counter escalationsWithoutTarget;
+    private final Thread worker;
+
+    public ApprovalSlaTracker(ApprovalLineRepository approvalLineRepository,
+                              NotificationService notificationService,
+                              OrgChartIndex orgChartIndex,
+                              MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${approval.sla.remind-after:PT24H}") Duration remindAfter,
+                              @Value("${approval.sla.escalate-after:PT72H}") Duration escalateAfter) {
+        this.approvalLineRepository = approvalLineRepository;
+        this.notificationService = notificationService;
+        this.orgChartIndex = orgChartIndex;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.remindAfter = remindAfter;
+        this.escalateAfter = escalateAfter;
+
+        this.reminders = Counter.builder("approval.sla.reminders")
+                .description("결재 지연 알림 발송 건수")
+                .register(meterRegistry);
+        this.escalations = Counter.builder("approval.sla.escalations")
+                .description("결재 지연 에스컬레이션 건수")
+                .tag("result", "escalated")
+                .register(meterRegistry);
+        this.escalationsWithoutTarget = Counter.builder("approval.sla.escalations")
+                .description("결재 지연 에스컬레이션 건수")
+                .tag("result", "no_target")
+                .register(meterRegistry);
+        Gauge.builder("approval.sla.in-review", inReview, Map::size)
+                .description("SLA 추적 중인 결재 차례 결재선 수")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::runTimers, "approval-sla-timer");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 결재선 변경 반영 (결재선 저장과 같은 트랜잭션에서 호출, 타이머 등록과 지표 기록은 커밋 이후)
+     * - 결재 차례가 된 결재선: 결재 차례 시각을 기록하고 타이머 등록
+     * - 처리된 결재선: 결재 차례 시각부터 처리 시각까지의 소요 시간 기록
+     */
+    public void track(List<ApprovalLine> lines) {
+        List<Runnable> afterCommit = new ArrayList<>();
+
+        for (ApprovalLine line : lines) {
+            Long lineId = line.getId();
+            if (IN_REVIEW.equals(line.getStatus().getCodeValue())) {
+                if (line.getReviewStartedAt() == null) {
+                    line.setReviewStartedAt(LocalDateTime.now());
+                }
+                LocalDateTime startedAt = line.getReviewStartedAt();
+                afterCommit.add(() -> schedule(lineId, startedAt, false, false));
+            } else if (line.getReviewStartedAt() != null && line.getApprovedAt() != null) {
+                Duration elapsed = Duration.between(line.getReviewStartedAt(), line.getApprovedAt());
+                String department = departmentName(line.getApprover());
+                String outcome = line.getStatus().getCodeValue();
+                afterCommit.add(() -> {
+                    inReview.remove(lineId);
+                    recordStepDuration(department, outcome, elapsed);
+                });
+            }
+        }
+
+        if (!afterCommit.isEmpty()) {
+            TransactionUtil.runAfterCommit(() -> afterCommit.forEach(Runnable::run));
+        }
+    }
+
+    /**
+     * 기동 시 결재 중인 결재선의 타이머 복원 후 타이머 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int backfilled = approvalLineRepository.backfillReviewStartedAt(LocalDateTime.now());
+                if (backfilled > 0) {
+                    log.info("결재 차례 시각 보정: {}건", backfilled);
+                }
+            });
+            log.info("결재 SLA 타이머 복원: {}건", rescan());
+        } catch (Exception e) {
+            log.warn("결재 SLA 타이머 복원 실패: {}", e.getMessage());
+        }
+        worker.start();
+    }
+
+    /**
+     * 주기적 재조회 (다른 노드에서 등록되어 이 노드에 없는 타이머 등록, 다른 노드에서 처리된 결재선 정리)
+     * - 발송은 조건부 UPDATE 로 선점하므로 모든 노드가 같은 타이머를 가져도 한 번만 발송
+     */
+    @Scheduled(fixedDelayString = "${approval.sla.rescan-interval:600000}",
+            initialDelayString = "${approval.sla.rescan-interval:600000}")
+    public void rescanTimers() {
+        try {
+            int adopted = rescan();
+            if (adopted > 0) {
+                log.info("결재 SLA 타이머 재조회로 등록: {}건", adopted);
+            }
+        } catch (Exception e) {
+            log.warn("결재 SLA 타이머 재조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 결재 중인 결재선을 읽어 이 노드에 없는(또는 결재 차례 시각이 다른) 결재선의 타이머 등록
+     * @return 새로 등록한 결재선 수
+     */
+    private int rescan() {
+        LocalDateTime scannedAt = LocalDateTime.now();
+        List<Object[]> rows = approvalLineRepository.findInReviewSlaRows();
+        Set<Long> lineIds = new HashSet<>();
+        int adopted = 0;
+        for (Object[] row : rows) {
+            Long lineId = (Long) row[0];
+            LocalDateTime startedAt = (LocalDateTime) row[1];
+            lineIds.add(lineId);
+            if (!startedAt.equals(inReview.get(lineId))) {
+                schedule(lineId, startedAt, row[2] != null, row[3] != null);
+                adopted++;
+            }
+        }
+        LocalDateTime pruneBefore = scannedAt.minus(PRUNE_GRACE);
+        inReview.entrySet().removeIf(entry -> !lineIds.contains(entry.getKey()) && entry.getValue().isBefore(pruneBefore));
+        return adopted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.interrupt();
+    }
+
+    private void schedule(Long lineId, LocalDateTime startedAt, boolean reminded, boolean escalated) {
+        inReview.put(lineId, startedAt);
+        if (!reminded) {
+            timers.add(new SlaTimer(lineId, startedAt, TimerType.REMIND, startedAt.plus(remindAfter)));
+        }
+        if (!escalated) {
+            timers.add(new SlaTimer(lineId, startedAt, TimerType.ESCALATE, startedAt.plus(escalateAfter)));
+        }
+    }
+
+    private void runTimers() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                SlaTimer timer = timers.take();
+                if (!timer.startedAt().equals(inReview.get(timer.lineId()))) {
+                    continue; // 이미 처리된 결재선
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (timer.type() == TimerType.REMIND) {
+                        remind(timer.lineId());
+                    } else {
+                        escalate(timer.lineId());
+                    }
+                });
+                if (timer.type() == TimerType.ESCALATE) {
+                    inReview.remove(timer.lineId(), timer.startedAt());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("결재 SLA 타이머 처리 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 결재자에게 결재 지연 알림
+     */
+    private void remind(Long lineId) {
+        if (approvalLineRepository.markSlaReminded(lineId, LocalDateTime.now()) == 0) {
+            return; // 처리 완료되었거나 다른 노드에서 발송
+        }
+        approvalLineRepository.findById(lineId).ifPresent(line -> {
+            Long requestId = line.getPurchaseRequest().getId();
+            notificationService.createNotification(
+                    line.getApprover().getId(),
+                    "결재 지연 알림",
+                    "구매요청 #" + requestId + " 결재가 " + remindAfter.toHours() + "시간 이상 대기 중입니다.",
+                    NotificationType.기타,
+                    requestId);
+            reminders.increment();
+        });
+    }
+
+    /**
+     * 결재자의 상위자에게 에스컬레이션 (같은 부서의 가장 가까운 상위 직급자)
+     * - 상위자가 없으면 알림 없이 result=no_target 으로만 집계
+     */
+    private void escalate(Long lineId) {
+        if (approvalLineRepository.markSlaEscalated(lineId, LocalDateTime.now()) == 0) {
+            return;
+        }
+        approvalLineRepository.findById(lineId).ifPresent(line -> {
+            Long requestId = line.getPurchaseRequest().getId();
+            Member approver = line.getApprover();
+            orgChartIndex.resolveEscalationTargetId(approver.getId()).ifPresentOrElse(
+                    targetId -> {
+                        notificationService.createNotification(
+                                targetId,
+                                "결재 지연 에스컬레이션",
+                                approver.getName() + "님의 구매요청 #" + requestId + " 결재가 "
+                                        + escalateAfter.toHours() + "시간 이상 지연되고 있습니다.",
+                                NotificationType.기타,
+                                requestId);
+                        escalations.increment();
+                    },
+                    () -> {
+                        log.warn("에스컬레이션 대상이 없습니다: 결재선 {}, 결재자 {}", lineId, approver.getId());
+                        escalationsWithoutTarget.increment();
+                    });
+        });
+    }
+
+    private void recordStepDuration(String department, String outcome, Duration elapsed) {
+        Timer.builder("approval.step.duration")
+                .description("결재 차례가 된 시점부터 처리까지의 소요 시간")
+                .tag("department", departmentTag(department))
+                .tag("outcome", KNOWN_OUTCOMES.contains(outcome) ? outcome : OTHER_TAG)
+                .serviceLevelObjectives(SLA_BOUNDARIES)
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    /**
+     * 부서 태그 (처음 본 부서부터 MAX_DEPARTMENT_TAGS 개까지만 사용하고 나머지는 other 로 묶어 태그 수를 고정)
+     */
+    private String departmentTag(String department) {
+        if (departmentTags.contains(department)) {
+            return department;
+        }
+        synchronized (departmentTags) {
+            if (departmentTags.size() < MAX_DEPARTMENT_TAGS) {
+                departmentTags.add(department);
+                return department;
+            }
+        }
+        return departmentTags.contains(department) ? department : OTHER_TAG;
+    }
+
+    private String departmentName(Member approver) {
+        return approver.getDepartment() != null ? approver.getDepartment().getName() : "NONE";
+    }
+
+    private enum TimerType {
+        REMIND,
+        ESCALATE
+    }
+
+    /**
+     * 지연 큐 항목 (dueAt 이 되면 꺼내짐)
+     */
+    private record SlaTimer(Long lineId, LocalDateTime startedAt, TimerType type, LocalDateTime dueAt)
+            implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), dueAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return dueAt.compareTo(((SlaTimer) other).dueAt);
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.orbit.service.procurement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.entity.approval.Department;
+import com.orbit.entity.approval.Position;
+import com.orbit.event.dto.OrgChartInvalidationMessage;
+import com.orbit.event.event.OrgChartChangeEvent;
+import com.orbit.event.event.OrgChartChangeEvent.TargetType;
+import com.orbit.repository.approval.DepartmentRepository;
+import com.orbit.repository.approval.PositionRepository;
+import com.orbit.repository.member.MemberRepository;
+import com.orbit.util.NodeIdUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 조직도 메모리 색인 (결재자 자동 지정용)
+ * - 멤버의 부서/직급과 부서별 직급 기준을 메모리에 보관하여 결재선 자동 생성 시 DB 조회 없이 결재자를 결정
+ * - 최초 사용 시 한 번 적재하고, 이후에는 트랜잭션에서 변경된 멤버/부서/직급을 모아 커밋 이후 한 번에 다시 읽어 반영
+ * - 반영한 변경 항목은 다른 노드에도 발행(org_chart_channel)하여 각 노드가 같은 항목을 다시 읽음
+ * - 발행 누락에 대비하여 주기적으로 전체를 다시 적재
+ * - 조회는 불변 스냅샷을 사용하고, 변경 시 새 스냅샷으로 교체
+ */
+@Slf4j
+@Component
+public class OrgChartIndex {
+
+    private static final List<String> FINANCE_DEPARTMENTS = List.of("재무팀", "재무회계팀");
+    private static final List<String> PURCHASE_DEPARTMENTS = List.of("구매팀", "구매관리팀");
+    private static final String EXECUTIVE_DEPARTMENT = "임원";
+    private static final int DEFAULT_EXECUTIVE_LEVEL = 8; // 임원 부서가 없을 때 임원으로 간주하는 직급 수준
+    private static final int REQUIRED_APPROVERS = 3;
+
+    public static final String INVALIDATION_CHANNEL = "org_chart_channel";
+
+    // 트랜잭션에 바인딩하는 변경 항목 리소스 키
+    private static final Object CHANGES_RESOURCE_KEY = new Object();
+
+    // 직급 높은 순, 같은 직급은 ID 순
+    private static final Comparator<MemberEntry> BY_LEVEL_DESC = Comparator
+            .comparingInt(MemberEntry::positionLevel).reversed()
+            .thenComparing(MemberEntry::memberId);
+
+    private final MemberRepository memberRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 원본 데이터 (변경 시 이 맵을 갱신한 뒤 스냅샷을 다시 구성)
+    private final Map<Long, MemberRow> memberRows = new HashMap<>();
+    private final Map<Long, DepartmentEntry> departments = new HashMap<>();
+    private final Map<Long, Integer> positionLevels = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public OrgChartIndex(MemberRepository memberRepository,
+                         DepartmentRepository departmentRepository,
+                         PositionRepository positionRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                         ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.departmentRepository = departmentRepository;
+        this.positionRepository = positionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.redisStringTemplate = redisStringTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 기안자 기준 결재자 ID 목록 (결재 순서대로)
+     * 1. 기안자 부서의 팀장 직급 초과 멤버
+     * 2. 재무팀 중간~상위 관리자, 없으면 구매팀 중간~상위 관리자
+     * 3. 임원 (임원 부서의 임원 직급 초과 멤버)
+     * - 3명이 안 되면 직급 높은 순으로 채움
+     */
+    public List<Long> resolveApproverIds(Long requesterId) {
+        Snapshot current = currentSnapshot();
+        List<Long> approvers = new ArrayList<>();
+
+        MemberRow requester = requesterId == null ? null : current.members().get(requesterId);
+        DepartmentEntry requesterDepartment = requester == null || requester.departmentId() == null
+                ? null
+                : current.departments().get(requester.departmentId());
+
+        // 1. 기안자 부서의 팀장/부서장
+        if (requesterDepartment != null) {
+            firstInDepartment(current, requesterDepartment.id(), requesterDepartment.teamLeaderLevel() + 1, Integer.MAX_VALUE)
+                    .ifPresent(approvers::add);
+        }
+
+        // 2. 재무팀 또는 구매팀 담당자
+        firstManager(current, FINANCE_DEPARTMENTS)
+                .or(() -> firstManager(current, PURCHASE_DEPARTMENTS))
+                .ifPresent(approvers::add);
+
+        // 3. 임원
+        int executiveLevel = current.departmentByName(EXECUTIVE_DEPARTMENT)
+                .map(DepartmentEntry::executiveLevel)
+                .orElse(DEFAULT_EXECUTIVE_LEVEL);
+        current.sortedMembers().stream()
+                .filter(member -> member.positionLevel() > executiveLevel)
+                .findFirst()
+                .ifPresent(member -> approvers.add(member.memberId()));
+
+        // 필요한 승인자 수를 맞추기 위해 직급 높은 순으로 추가
+        for (MemberEntry member : current.sortedMembers()) {
+            if (approvers.size() >= REQUIRED_APPROVERS) {
+                break;
+            }
+            if (!approvers.contains(member.memberId())) {
+                approvers.add(member.memberId());
+            }
+        }
+
+        return approvers;
+    }
+
+    /**
+     * 결재 지연 시 에스컬레이션 대상 (같은 부서에서 결재자보다 직급이 높은 멤버 중 가장 가까운 상위자)
+     */
+    public Optional<Long> resolveEscalationTargetId(Long approverId) {
+        Snapshot current = currentSnapshot();
+        MemberRow approver = approverId == null ? null : current.members().get(approverId);
+        if (approver == null || approver.departmentId() == null) {
+            return Optional.empty();
+        }
+        int approverLevel = current.byDepartment().getOrDefault(approver.departmentId(), List.of()).stream()
+                .filter(member -> member.memberId().equals(approverId))
+                .mapToInt(MemberEntry::positionLevel)
+                .findFirst()
+                .orElse(Integer.MIN_VALUE);
+
+        // 직급 높은 순으로 정렬되어 있으므로 결재자보다 높은 직급 중 마지막 항목이 가장 가까운 상위자
+        MemberEntry superior = null;
+        for (MemberEntry member : current.byDepartment().getOrDefault(approver.departmentId(), List.of())) {
+            if (member.positionLevel() <= approverLevel) {
+                break;
+            }
+            superior = member;
+        }
+        return Optional.ofNullable(superior).map(MemberEntry::memberId);
+    }
+
+    /**
+     * 기동 시 미리 적재하여 첫 결재선 생성에서도 조회가 발생하지 않도록 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            currentSnapshot();
+        } catch (Exception e) {
+            log.warn("조직도 색인 사전 적재 실패, 최초 사용 시 적재: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 조직도 변경 기록 (트랜잭션 안에서는 변경 항목만 모아 두고 커밋 이후 한 번에 반영)
+     * - 같은 트랜잭션에서 여러 멤버가 수정되어도 스냅샷은 한 번만 다시 구성
+     */
+    @EventListener
+    @SuppressWarnings("unchecked")
+    public void onOrgChartChange(OrgChartChangeEvent event) {
+        Target target = new Target(event.getTargetType(), event.getTargetId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(Map.of(target, event.isRemoved()), true);
+            return;
+        }
+
+        Map<Target, Boolean> changes = (Map<Target, Boolean>) TransactionSynchronizationManager.getResource(CHANGES_RESOURCE_KEY);
+        if (changes == null) {
+            Map<Target, Boolean> pending = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(CHANGES_RESOURCE_KEY, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(pending, true);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CHANGES_RESOURCE_KEY);
+                }
+            });
+            changes = pending;
+        }
+        changes.put(target, event.isRemoved()); // 마지막 상태 (저장 후 삭제 등)
+    }
+
+    /**
+     * 다른 노드에서 반영한 변경 항목 적용 (OrgChartInvalidationListener)
+     */
+    public void onRemoteChange(OrgChartInvalidationMessage message) {
+        if (NodeIdUtil.getNodeId().equals(message.getOriginNode()) || message.getTargets() == null) {
+            return;
+        }
+        Map<Target, Boolean> changes = new LinkedHashMap<>();
+        message.getTargets().forEach(target ->
+                changes.put(new Target(target.getTargetType(), target.getTargetId()), target.isRemoved()));
+        refresh(changes, false);
+    }
+
+    /**
+     * 주기적 전체 재적재 (노드 간 발행이 유실된 경우 보정)
+     */
+    @Scheduled(fixedDelayString = "${org-chart.index.refresh-interval:600000}",
+            initialDelayString = "${org-chart.index.refresh-interval:600000}")
+    public void reloadAll() {
+        synchronized (this) {
+            if (snapshot == null) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> loadAll());
+                snapshot = buildSnapshot();
+            } catch (Exception e) {
+                log.warn("조직도 색인 재적재 실패, 다음 사용 시 전체 재적재: {}", e.getMessage());
+                snapshot = null;
+            }
+        }
+    }
+
+    /**
+     * 변경 항목만 다시 조회하여 스냅샷을 한 번 다시 구성
+     * @param broadcast 다른 노드에도 발행할지 여부 (로컬 변경만 발행)
+     */
+    private void refresh(Map<Target, Boolean> changes, boolean broadcast) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (snapshot != null) { // 아직 적재 전이면 최초 사용 시 전체 적재
+                try {
+                    transactionTemplate.executeWithoutResult(status -> changes.forEach(this::apply));
+                    snapshot = buildSnapshot();
+                } catch (Exception e) {
+                    log.warn("조직도 색인 갱신 실패, 다음 사용 시 전체 재적재: {}", e.getMessage());
+                    snapshot = null;
+                }
+            }
+        }
+        if (broadcast) {
+            publishInvalidation(changes);
+        }
+    }
+
+    /**
+     * 변경 항목을 다른 노드로 발행 (Redis 장애가 업무 처리에 영향을 주지 않도록 오류는 로그만 남김)
+     */
+    private void publishInvalidation(Map<Target, Boolean> changes) {
+        List<OrgChartInvalidationMessage.Target> targets = new ArrayList<>(changes.size());
+        changes.forEach((target, removed) ->
+                targets.add(new OrgChartInvalidationMessage.Target(target.type(), target.id(), removed)));
+        try {
+            redisStringTemplate.convertAndSend(INVALIDATION_CHANNEL, objectMapper.writeValueAsString(
+                    new OrgChartInvalidationMessage(NodeIdUtil.getNodeId(), targets)));
+        } catch (Exception e) {
+            log.error("조직도 변경 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Target target, boolean removed) {
+        Long id = target.id();
+        switch (target.type()) {
+            case MEMBER -> {
+                memberRows.remove(id);
+                if (!removed) {
+                    memberRepository.findOrgChartRowById(id).forEach(this::putMemberRow);
+                }
+            }
+            case DEPARTMENT -> {
+                departments.remove(id);
+                if (!removed) {
+                    departmentRepository.findById(id).ifPresent(this::putDepartment);
+                }
+            }
+            case POSITION -> {
+                positionLevels.remove(id);
+                if (!removed) {
+                    positionRepository.findById(id).ifPresent(this::putPosition);
+                }
+            }
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                transactionTemplate.executeWithoutResult(status -> loadAll());
+                snapshot = buildSnapshot();
+                log.info("조직도 색인 적재: 멤버 {}명, 부서 {}개, 직급 {}개",
+                        memberRows.size(), departments.size(), positionLevels.size());
+            }
+            return snapshot;
+        }
+    }
+
+    private void loadAll() {
+        memberRows.clear();
+        departments.clear();
+        positionLevels.clear();
+        memberRepository.findOrgChartRows().forEach(this::putMemberRow);
+        departmentRepository.findAll().forEach(this::putDepartment);
+        positionRepository.findAll().forEach(this::putPosition);
+    }
+
+    private void putMemberRow(Object[] row) {
+        Long memberId = (Long) row[0];
+        memberRows.put(memberId, new MemberRow(memberId, (Long) row[1], (Long) row[2]));
+    }
+
+    private void putDepartment(Department department) {
+        departments.put(department.getId(), new DepartmentEntry(
+                department.getId(),
+                department.getName(),
+                department.getTeamLeaderLevel(),
+                department.getMiddleManagerLevel(),
+                department.getUpperManagerLevel(),
+                department.getExecutiveLevel()));
+    }
+
+    private void putPosition(Position position) {
+        positionLevels.put(position.getId(), position.getLevel());
+    }
+
+    /**
+     * 원본 데이터로 조회용 스냅샷 구성 (직급이 없는 멤버는 결재 후보에서 제외)
+     */
+    private Snapshot buildSnapshot() {
+        List<MemberEntry> sortedMembers = memberRows.values().stream()
+                .filter(row -> row.positionId() != null && positionLevels.containsKey(row.positionId()))
+                .map(row -> new MemberEntry(row.memberId(), row.departmentId(), positionLevels.get(row.positionId())))
+                .sorted(BY_LEVEL_DESC)
+                .collect(Collectors.toList());
+
+        Map<Long, List<MemberEntry>> byDepartment = sortedMembers.stream()
+                .filter(member -> member.departmentId() != null)
+                .collect(Collectors.groupingBy(MemberEntry::departmentId));
+
+        return new Snapshot(Map.copyOf(memberRows), Map.copyOf(departments), List.copyOf(sortedMembers), byDepartment);
+    }
+
+    private Optional<Long> firstManager(Snapshot current, List<String> departmentNames) {
+        return departmentNames.stream()
+                .map(current::departmentByName)
+                .flatMap(Optional::stream)
+                .findFirst()
+                .flatMap(department -> firstInDepartment(current, department.id(),
+                        department.middleManagerLevel(), department.upperManagerLevel()));
+    }
+
+    private Optional<Long> firstInDepartment(Snapshot current, Long departmentId, int minLevel, int maxLevel) {
+        return current.byDepartment().getOrDefault(departmentId, List.of()).stream()
+                .filter(member -> member.positionLevel() >= minLevel && member.positionLevel() <= maxLevel)
+                .map(MemberEntry::memberId)
+                .findFirst();
+    }
+
+    /**
+     * 변경 항목 (유형, ID)
+     */
+    private record Target(TargetType type, Long id) {
+    }
+
+    /**
+     * 멤버 소속 (직급 수준은 스냅샷 구성 시 계산)
+     */
+    private record MemberRow(Long memberId, Long departmentId, Long positionId) {
+    }
+
+    /**
+     * 결재 후보 멤버 (직급 수준 포함)
+     */
+    private record MemberEntry(Long memberId, Long departmentId, int positionLevel) {
+    }
+
+    /**
+     * 부서와 부서별 직급 기준
+     */
+    private record DepartmentEntry(Long id, String name, int teamLeaderLevel, int middleManagerLevel,
+                                   int upperManagerLevel, int executiveLevel) {
+    }
+
+    /**
+     * 조회용 불변 스냅샷
+     * @param sortedMembers 직급 높은 순 결재 후보
+     * @param byDepartment 부서 ID - 직급 높은 순 결재 후보
+     */
+    private record Snapshot(Map<Long, MemberRow> members,
+                            Map<Long, DepartmentEntry> departments,
+                            List<MemberEntry> sortedMembers,
+                            Map<Long, List<MemberEntry>> byDepartment) {
+
+        Optional<DepartmentEntry> departmentByName(String name) {
+            return departments.values().stream()
+                    .filter(department -> Objects.equals(department.name(), name))
+                    .min(Comparator.comparing(DepartmentEntry::id));
+        }
+    }
+}
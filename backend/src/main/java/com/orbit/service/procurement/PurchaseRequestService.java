@@ -34,6 +34,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -50,7 +54,12 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -59,6 +68,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class PurchaseRequestService {
 
+    private static final int ID_CHUNK_SIZE = 500; // 전체 조회 시 한 번에 일괄 조회하는 ID 수
+
     private final PurchaseRequestRepository purchaseRequestRepository;
     private final ItemRepository itemRepository;
     private final ParentCodeRepository parentCodeRepository;
@@ -214,11 +225,102 @@ public class PurchaseRequestService {
 
     /**
      * 모든 구매 요청 조회
+     * - ID 목록을 고정 크기 청크로 나누어 일괄 조회 (IN 절 길이 제한)
      */
     @Transactional(readOnly = true)
     public List<PurchaseRequestDTO> getAllPurchaseRequests() {
-        return purchaseRequestRepository.findAll().stream()
-                .map(this::convertToDto)
+        List<Long> ids = purchaseRequestRepository.findAllIds();
+        List<PurchaseRequestDTO> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            result.addAll(loadPurchaseRequestDtos(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()))));
+        }
+        return result;
+    }
+
+    /**
+     * 구매 요청 목록 페이지 조회
+     * - 1단계: 조건에 맞는 ID 페이지 조회 (ID + COUNT)
+     * - 2단계: 페이지의 ID 로 연관 엔티티를 일괄 fetch 하여 DTO 변환
+     * - 페이지 크기와 무관하게 페이지당 쿼리 수가 고정됨 (최대 4회)
+     * @param requestType 요청 유형 (SI, MAINTENANCE, GOODS)
+     * @param status 상태 코드 (REQUESTED 또는 PURCHASE_REQUEST-STATUS-REQUESTED)
+     */
+    @Transactional(readOnly = true)
+    public Page<PurchaseRequestDTO> getPurchaseRequests(String requestType, String status, Long projectId,
+                                                        Long memberId, LocalDate startDate, LocalDate endDate,
+                                                        Pageable pageable) {
+        Page<Long> idPage = purchaseRequestRepository.searchIds(
+                StringUtils.hasText(requestType) ? requestType.toUpperCase() : null,
+                toStatusChildCode(status), projectId, memberId, startDate, endDate,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        return new PageImpl<>(loadPurchaseRequestDtos(idPage.getContent()), idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * 구매 요청 목록 요약 페이지 조회
+     * - 엔티티를 로딩하지 않고 목록 컬럼만 조회 (본문 LOB 컬럼, 첨부 파일, 품목 제외)
+     * - 요청 유형을 지정하면 해당 유형 엔티티로 조회하여 유형별 컬럼을 함께 반환
+     * @param requestType 요청 유형 (SI, MAINTENANCE, GOODS, 없으면 전체)
+     * @param status 상태 코드 (REQUESTED 또는 PURCHASE_REQUEST-STATUS-REQUESTED)
+     */
+    @Transactional(readOnly = true)
+    public Page<PurchaseRequestSummaryDTO> getPurchaseRequestSummaries(String requestType, String status,
+                                                                       Long projectId, Long memberId,
+                                                                       LocalDate startDate, LocalDate endDate,
+                                                                       Pageable pageable) {
+        String statusChildCode = toStatusChildCode(status);
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        if (!StringUtils.hasText(requestType)) {
+            return purchaseRequestRepository.findSummaries(statusChildCode, projectId, memberId, startDate, endDate, page);
+        }
+        return switch (requestType.toUpperCase()) {
+            case "SI" -> purchaseRequestRepository.findSiSummaries(
+                    statusChildCode, projectId, memberId, startDate, endDate, page);
+            case "MAINTENANCE" -> purchaseRequestRepository.findMaintenanceSummaries(
+                    statusChildCode, projectId, memberId, startDate, endDate, page);
+            case "GOODS" -> purchaseRequestRepository.findGoodsSummaries(
+                    statusChildCode, projectId, memberId, startDate, endDate, page);
+            default -> throw new IllegalArgumentException("잘못된 요청 유형: " + requestType);
+        };
+    }
+
+    /**
+     * 상태 코드 파라미터에서 하위 코드 추출 (PURCHASE_REQUEST-STATUS-REQUESTED -> REQUESTED)
+     */
+    private String toStatusChildCode(String status) {
+        if (!StringUtils.hasText(status)) {
+            return null;
+        }
+        return status.contains("-") ? status.substring(status.lastIndexOf('-') + 1) : status;
+    }
+
+    /**
+     * ID 목록의 구매 요청을 일괄 조회하여 ID 순서대로 DTO 변환
+     * - 프로젝트/요청자/첨부 파일 1회, 물품 요청 품목 1회 조회 후 convertToDto 에서 지연 로딩이 발생하지 않음
+     * - 목록에서는 본문(LOB) 필드를 채우지 않아 지연 로딩 속성이 조회되지 않음 (본문은 상세 조회에서 반환)
+     */
+    private List<PurchaseRequestDTO> loadPurchaseRequestDtos(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, PurchaseRequest> requestMap = purchaseRequestRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PurchaseRequest::getId, Function.identity()));
+
+        List<Long> goodsIds = requestMap.values().stream()
+                .filter(request -> request instanceof GoodsRequest)
+                .map(PurchaseRequest::getId)
+                .collect(Collectors.toList());
+        if (!goodsIds.isEmpty()) {
+            purchaseRequestRepository.fetchItemsByIdIn(goodsIds);
+        }
+
+        return ids.stream()
+                .map(requestMap::get)
+                .filter(Objects::nonNull)
+                .map(request -> convertToDto(request, false))
                 .collect(Collectors.toList());
     }
 
@@ -258,13 +360,21 @@ public class PurchaseRequestService {
      * 엔티티를 DTO로 변환 (핵심)
      */
     private PurchaseRequestDTO convertToDto(PurchaseRequest entity) {
+        return convertToDto(entity, true);
+    }
+
+    /**
+     * Entity -> DTO 변환
+     * @param includeContent 본문(SI 프로젝트 내용, 유지보수 계약 내용) 포함 여부
+     */
+    private PurchaseRequestDTO convertToDto(PurchaseRequest entity, boolean includeContent) {
         PurchaseRequestDTO dto;
 
         // 1. 타입에 따라 DTO 생성 및 초기화
         if (entity instanceof SIRequest) {
-            dto = convertToSiDto((SIRequest) entity);
+            dto = convertToSiDto((SIRequest) entity, includeContent);
         } else if (entity instanceof MaintenanceRequest) {
-            dto = convertToMaintenanceDto((MaintenanceRequest) entity);
+            dto = convertToMaintenanceDto((MaintenanceRequest) entity, includeContent);
         } else if (entity instanceof GoodsRequest) {
             dto = convertToGoodsDto((GoodsRequest) entity);
         } else {
@@ -344,23 +454,27 @@ public class PurchaseRequestService {
     /**
      * SIRequest -> SIRequestDTO 변환
      */
-    private SIRequestDTO convertToSiDto(SIRequest entity) {
+    private SIRequestDTO convertToSiDto(SIRequest entity, boolean includeContent) {
         SIRequestDTO dto = new SIRequestDTO();
         dto.setProjectStartDate(entity.getProjectStartDate());
         dto.setProjectEndDate(entity.getProjectEndDate());
-        dto.setProjectContent(entity.getProjectContent());
+        if (includeContent) {
+            dto.setProjectContent(entity.getProjectContent());
+        }
         return dto;
     }
 
     /**
      * MaintenanceRequest -> MaintenanceRequestDTO 변환
      */
-    private MaintenanceRequestDTO convertToMaintenanceDto(MaintenanceRequest entity) {
+    private MaintenanceRequestDTO convertToMaintenanceDto(MaintenanceRequest entity, boolean includeContent) {
         MaintenanceRequestDTO dto = new MaintenanceRequestDTO();
         dto.setContractStartDate(entity.getContractStartDate());
         dto.setContractEndDate(entity.getContractEndDate());
         dto.setContractAmount(entity.getContractAmount());
-        dto.setContractDetails(entity.getContractDetails());
+        if (includeContent) {
+            dto.setContractDetails(entity.getContractDetails());
+        }
         return dto;
     }
 
@@ -413,14 +527,11 @@ public class PurchaseRequestService {
     private GoodsRequest convertToGoodsEntity(GoodsRequestDTO dto) {
         GoodsRequest goodsRequest = new GoodsRequest();
 
-        // 아이템 처리
+        // 아이템 처리 (품목은 한 번에 조회)
+        LineItemReferences references = resolveLineItemReferences(dto.getItems());
         List<PurchaseRequestItem> items = dto.getItems().stream()
                 .map(itemDto -> {
-                    // 아이템 존재 여부 확인
-                    Item item = itemRepository.findById(itemDto.getItemId().toString())
-                            .orElseThrow(() -> new ResourceNotFoundException(
-                                    "Item ID " + itemDto.getItemId() + "에 해당하는 품목이 없습니다."
-                            ));
+                    Item item = references.items().get(itemDto.getItemId());
 
                     PurchaseRequestItem pri = new PurchaseRequestItem();
                     pri.setItem(item);
@@ -524,34 +635,34 @@ public class PurchaseRequestService {
     private void updateGoodsRequest(GoodsRequest entity, GoodsRequestDTO dto) {
         // 기존 아이템 제거 후 새 아이템 추가
         entity.getItems().clear();
-        List<PurchaseRequestItem> newItems = dto.getItems().stream()
-                .map(itemDto -> {
-                    PurchaseRequestItem item = convertToItemEntity(itemDto, entity);
-                    // 명시적으로 양방향 관계 설정 (addItem 메서드 활용)
-                    entity.addItem(item);
-                    return item;
-                })
-                .collect(Collectors.toList());
+        LineItemReferences references = resolveLineItemReferences(dto.getItems());
+        dto.getItems().forEach(itemDto -> {
+            PurchaseRequestItem item = convertToItemEntity(itemDto, entity, references);
+            // 명시적으로 양방향 관계 설정 (addItem 메서드 활용)
+            entity.addItem(item);
+        });
     }
 
     /**
      * 품목 엔티티로 변환 (GoodsRequest 연관관계 설정)
      */
-    private PurchaseRequestItem convertToItemEntity(PurchaseRequestItemDTO itemDto, GoodsRequest goodsRequest) {
-        Item foundItem = itemRepository.findById(itemDto.getItemId().toString())
-                .orElseThrow(() -> new ResourceNotFoundException("Item ID " + itemDto.getItemId() + "에 해당하는 품목이 없습니다."));
+    private PurchaseRequestItem convertToItemEntity(PurchaseRequestItemDTO itemDto, GoodsRequest goodsRequest,
+                                                    LineItemReferences references) {
+        Item foundItem = references.items().get(itemDto.getItemId());
 
         PurchaseRequestItem item = new PurchaseRequestItem();
         item.setItem(foundItem);
         item.setPurchaseRequest(goodsRequest); // PurchaseRequest 설정
         item.setGoodsRequest(goodsRequest);    // 여기에 GoodsRequest도 추가 설정
 
-        // 단위 코드 조회 및 설정
+        // 단위 코드 설정 (미리 조회한 코드 사용)
         if(itemDto.getUnitParentCode() != null){
-            ParentCode unitParentCode = parentCodeRepository.findByCodeName(itemDto.getUnitParentCode());
+            ParentCode unitParentCode = references.parentCodes().get(itemDto.getUnitParentCode());
 
             if(unitParentCode != null){
-                ChildCode unitChildCode = childCodeRepository.findByParentCodeAndCodeValue(unitParentCode, itemDto.getUnitChildCode()).orElse(null); // Optional 처리
+                ChildCode unitChildCode = references.childCodes()
+                        .getOrDefault(unitParentCode.getId(), Map.of())
+                        .get(itemDto.getUnitChildCode());
                 item.setUnitParentCode(unitParentCode);
                 item.setUnitChildCode(unitChildCode);
             }
@@ -567,6 +678,61 @@ public class PurchaseRequestService {
         return item;
     }
 
+    /**
+     * 품목 라인에서 참조하는 품목과 단위 코드를 한 번에 조회
+     * - 품목 findAllById 1회, 단위 부모 코드 1회, 단위 자식 코드 1회로 라인 수와 무관하게 고정
+     * - 존재하지 않는 품목 ID 는 모아서 한 번에 예외로 보고
+     */
+    private LineItemReferences resolveLineItemReferences(List<PurchaseRequestItemDTO> itemDtos) {
+        Set<String> itemIds = itemDtos.stream()
+                .map(PurchaseRequestItemDTO::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<String> missingIds = itemDtos.stream()
+                .map(PurchaseRequestItemDTO::getItemId)
+                .filter(itemId -> itemId == null || !items.containsKey(itemId))
+                .map(String::valueOf)
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Item ID " + String.join(", ", missingIds) + "에 해당하는 품목이 없습니다.");
+        }
+
+        Set<String> unitCodeNames = itemDtos.stream()
+                .map(PurchaseRequestItemDTO::getUnitParentCode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (unitCodeNames.isEmpty()) {
+            return new LineItemReferences(items, Map.of(), Map.of());
+        }
+
+        Map<String, ParentCode> parentCodes = parentCodeRepository.findByCodeNameIn(unitCodeNames).stream()
+                .collect(Collectors.toMap(ParentCode::getCodeName, Function.identity(), (first, second) -> first));
+
+        Map<Long, Map<String, ChildCode>> childCodes = parentCodes.isEmpty()
+                ? Map.of()
+                : childCodeRepository.findByParentCodeIn(parentCodes.values()).stream()
+                        .collect(Collectors.groupingBy(child -> child.getParentCode().getId(),
+                                Collectors.toMap(ChildCode::getCodeValue, Function.identity(), (first, second) -> first)));
+
+        return new LineItemReferences(items, parentCodes, childCodes);
+    }
+
+    /**
+     * 품목 라인 변환에 필요한 참조 엔티티
+     * @param items 품목 ID - 품목
+     * @param parentCodes 단위 부모 코드명 - 부모 코드
+     * @param childCodes 부모 코드 ID - (코드값 - 자식 코드)
+     */
+    private record LineItemReferences(Map<String, Item> items,
+                                      Map<String, ParentCode> parentCodes,
+                                      Map<Long, Map<String, ChildCode>> childCodes) {
+    }
+
     /**
      * 초기 상태 설정
      */
@@ -644,9 +810,10 @@ public class PurchaseRequestService {
             // 1. 기존 아이템 제거
             goodsRequest.getItems().clear();
 
-            // 2. 새 아이템 추가 (addItem 메서드 활용)
+            // 2. 새 아이템 추가 (addItem 메서드 활용, 참조 엔티티는 한 번에 조회)
+            LineItemReferences references = resolveLineItemReferences(goodsRequestDTO.getItems());
             goodsRequestDTO.getItems().forEach(itemDto -> {
-                PurchaseRequestItem item = convertToItemEntity(itemDto, goodsRequest);
+                PurchaseRequestItem item = convertToItemEntity(itemDto, goodsRequest, references);
                 goodsRequest.addItem(item); // GoodsRequest의 addItem 메서드 사용
             });
         }
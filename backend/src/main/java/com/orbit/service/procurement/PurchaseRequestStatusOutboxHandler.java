@@ -0,0 +1,73 @@
+package com.orbit.service.procurement;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.entity.outbox.OutboxEvent;
+import com.orbit.event.dto.PurchaseRequestStatusEventDTO;
+import com.orbit.event.publisher.PurchaseRequestEventPublisher;
+import com.orbit.service.outbox.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구매 요청 상태 변경 아웃박스 처리기
+ * - 커밋된 상태 변경만 WebSocket 과 Redis 채널로 전달
+ * - OutboxRelay 가 id 순서로 넘겨주므로 구매 요청별 상태 변경 순서가 유지됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseRequestStatusOutboxHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "PURCHASE_REQUEST_STATUS_CHANGED";
+
+    private final PurchaseRequestWebSocketService webSocketService;
+    private final PurchaseRequestEventPublisher redisEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            PurchaseRequestStatusEventDTO eventDTO = readPayload(event);
+
+            // WebSocket으로 클라이언트에 전파
+            webSocketService.sendStatusUpdateEvent(eventDTO);
+
+            // Redis Pub/Sub 채널로 이벤트 발행
+            redisEventPublisher.publishStatusChangeEvent(eventDTO);
+        }
+        log.debug("구매 요청 상태 변경 이벤트 전달: {}건", events.size());
+    }
+
+    /**
+     * 상태 변경 DTO 를 아웃박스 payload(JSON)로 변환
+     */
+    public String writePayload(PurchaseRequestStatusEventDTO eventDTO) {
+        try {
+            return objectMapper.writeValueAsString(eventDTO);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("구매 요청 상태 변경 이벤트 직렬화 실패: " + eventDTO.getPurchaseRequestId(), e);
+        }
+    }
+
+    /**
+     * 아웃박스 payload 를 상태 변경 DTO 로 변환
+     */
+    private PurchaseRequestStatusEventDTO readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), PurchaseRequestStatusEventDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("구매 요청 상태 변경 이벤트 역직렬화 실패: " + event.getId(), e);
+        }
+    }
+}
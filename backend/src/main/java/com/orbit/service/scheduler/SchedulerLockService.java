@@ -0,0 +1,53 @@
+package com.orbit.service.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbit.repository.scheduler.SchedulerLockRepository;
+import com.orbit.util.NodeIdUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄러 잠금 서비스
+ * - DB 조건부 UPDATE 로 클러스터 내 단일 실행을 보장
+ * - 노드가 비정상 종료되어도 lockAtMostFor 이후에는 다른 노드가 잠금을 획득할 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    /**
+     * 잠금 획득 시도
+     * @param lockName 작업 이름
+     * @param lockAtMostFor 최대 잠금 유지 시간
+     * @return 획득 성공 여부
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryLock(String lockName, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.insertIfAbsent(lockName, now);
+        boolean acquired = schedulerLockRepository.acquire(
+                lockName, NodeIdUtil.getNodeId(), now, now.plus(lockAtMostFor)) == 1;
+        if (!acquired) {
+            log.debug("스케줄러 잠금 획득 실패 (다른 노드에서 실행 중): {}", lockName);
+        }
+        return acquired;
+    }
+
+    /**
+     * 잠금 해제
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void unlock(String lockName) {
+        schedulerLockRepository.release(lockName, NodeIdUtil.getNodeId(), LocalDateTime.now());
+    }
+}
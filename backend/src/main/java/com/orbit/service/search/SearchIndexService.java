@@ -0,0 +1,251 @@
+package com.orbit.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.dto.delivery.DeliveryDto;
+import com.orbit.entity.delivery.Delivery;
+import com.orbit.entity.invoice.Invoice;
+import com.orbit.entity.search.SearchToken;
+import com.orbit.entity.search.SearchToken.DocumentType;
+import com.orbit.repository.delivery.DeliveryRepository;
+import com.orbit.repository.invoice.InvoiceRepository;
+import com.orbit.repository.search.SearchTokenRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * n-gram 검색 색인 서비스
+ * - 입고/송장 저장 시 검색 대상 필드를 2-gram 토큰으로 색인 (쓰기 시점 동기화)
+ * - 검색 시 토큰 인덱스로 순위가 매겨진 ID 페이지를 구한 뒤, 한 번의 IN 쿼리로 엔티티를 로딩
+ * - 토큰은 후보를 좁히는 용도이며, 실제로 검색어를 포함하는 문서만 결과에 남김
+ */
+@Slf4j
+@Service
+@Transactional
+public class SearchIndexService {
+
+    private static final int GRAM_SIZE = 2;
+
+    // 필드별 가중치
+    private static final int NUMBER_WEIGHT = 3;
+    private static final int SUPPLIER_WEIGHT = 2;
+    private static final int ITEM_WEIGHT = 1;
+
+    private final SearchTokenRepository searchTokenRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate chunkTemplate;
+
+    public SearchIndexService(SearchTokenRepository searchTokenRepository,
+                              DeliveryRepository deliveryRepository,
+                              InvoiceRepository invoiceRepository,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager) {
+        this.searchTokenRepository = searchTokenRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.entityManager = entityManager;
+        this.chunkTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 입고 색인 (입고번호, 발주번호, 공급업체명, 품목명)
+     */
+    public void indexDelivery(Delivery delivery) {
+        Map<String, Integer> tokens = new HashMap<>();
+        addTokens(tokens, delivery.getDeliveryNumber(), NUMBER_WEIGHT);
+        addTokens(tokens, delivery.getOrderNumber(), NUMBER_WEIGHT);
+        addTokens(tokens, delivery.getSupplierName(), SUPPLIER_WEIGHT);
+        addTokens(tokens, delivery.getItemName(), ITEM_WEIGHT);
+        replaceTokens(DocumentType.DELIVERY, delivery.getId(), tokens);
+    }
+
+    /**
+     * 송장 색인 (송장번호, 입고번호, 공급업체명, 품목명)
+     */
+    public void indexInvoice(Invoice invoice) {
+        Map<String, Integer> tokens = new HashMap<>();
+        addTokens(tokens, invoice.getInvoiceNumber(), NUMBER_WEIGHT);
+        if (invoice.getDelivery() != null) {
+            addTokens(tokens, invoice.getDelivery().getDeliveryNumber(), NUMBER_WEIGHT);
+        }
+        if (invoice.getSupplier() != null) {
+            addTokens(tokens, invoice.getSupplier().getName(), SUPPLIER_WEIGHT);
+        }
+        addTokens(tokens, invoice.getItemName(), ITEM_WEIGHT);
+        replaceTokens(DocumentType.INVOICE, invoice.getId(), tokens);
+    }
+
+    /**
+     * 문서 색인 제거
+     */
+    public void removeDocument(DocumentType docType, Long docId) {
+        searchTokenRepository.deleteByDocument(docType, docId);
+    }
+
+    /**
+     * 입고 검색
+     */
+    @Transactional(readOnly = true)
+    public Page<Delivery> searchDeliveries(String keyword, DeliveryDto.SearchCondition condition, Pageable pageable) {
+        Set<String> tokens = tokenize(keyword);
+        Page<Long> idPage = searchTokenRepository.searchDeliveryIds(
+                tokens, tokens.size(), likeKeyword(keyword),
+                condition.getSupplierId(),
+                condition.getSupplierName(),
+                condition.getStartDate(),
+                condition.getEndDate(),
+                condition.getInvoiceIssued(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        return hydrate(idPage, deliveryRepository.findAllById(idPage.getContent()), Delivery::getId);
+    }
+
+    /**
+     * 송장 검색
+     */
+    @Transactional(readOnly = true)
+    public Page<Invoice> searchInvoices(String keyword, String statusCode, Pageable pageable) {
+        Set<String> tokens = tokenize(keyword);
+        Page<Long> idPage = searchTokenRepository.searchInvoiceIds(
+                tokens, tokens.size(), likeKeyword(keyword), statusCode,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        return hydrate(idPage, invoiceRepository.findAllById(idPage.getContent()), Invoice::getId);
+    }
+
+    /**
+     * 색인 검색이 가능한 검색어인지 확인 (2-gram 을 만들 수 있는 길이)
+     */
+    public static boolean isIndexable(String keyword) {
+        return keyword != null && normalize(keyword).length() >= GRAM_SIZE;
+    }
+
+    /**
+     * 문자열을 2-gram 토큰 집합으로 분해 (소문자, 공백 제거)
+     */
+    public static Set<String> tokenize(String text) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        addTokens(tokens, text, 0);
+        return tokens.keySet();
+    }
+
+    /**
+     * 색인이 없는 기존 데이터 일괄 색인 (문서 유형별로 한 번)
+     * - id 순으로 청크를 나누어 청크마다 별도 트랜잭션으로 커밋하고, 영속성 컨텍스트를 비워 메모리 사용을 제한
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfEmpty(int chunkSize) {
+        if (!searchTokenRepository.existsByDocType(DocumentType.DELIVERY)) {
+            long count = rebuildInChunks(
+                    lastId -> deliveryRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, chunkSize)),
+                    Delivery::getId, this::indexDelivery);
+            log.info("입고 검색 색인 생성 완료: {}건", count);
+        }
+
+        if (!searchTokenRepository.existsByDocType(DocumentType.INVOICE)) {
+            long count = rebuildInChunks(
+                    lastId -> invoiceRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, chunkSize)),
+                    Invoice::getId, this::indexInvoice);
+            log.info("송장 검색 색인 생성 완료: {}건", count);
+        }
+    }
+
+    /**
+     * 마지막 id 이후 청크를 조회하여 색인 (청크마다 새 트랜잭션)
+     * @return 색인한 문서 수
+     */
+    private <T> long rebuildInChunks(Function<Long, List<T>> nextChunk, Function<T, Long> idGetter, Consumer<T> indexer) {
+        long count = 0;
+        Long lastId = 0L;
+        while (true) {
+            Long after = lastId;
+            List<Long> indexedIds = chunkTemplate.execute(status -> {
+                List<T> chunk = nextChunk.apply(after);
+                chunk.forEach(indexer);
+                List<Long> ids = chunk.stream().map(idGetter).collect(Collectors.toList());
+                entityManager.flush();
+                entityManager.clear();
+                return ids;
+            });
+            if (indexedIds == null || indexedIds.isEmpty()) {
+                return count;
+            }
+            count += indexedIds.size();
+            lastId = indexedIds.get(indexedIds.size() - 1);
+        }
+    }
+
+    private void replaceTokens(DocumentType docType, Long docId, Map<String, Integer> tokens) {
+        searchTokenRepository.deleteByDocument(docType, docId);
+
+        List<SearchToken> entities = new ArrayList<>(tokens.size());
+        tokens.forEach((token, weight) -> entities.add(SearchToken.builder()
+                .docType(docType)
+                .docId(docId)
+                .token(token)
+                .weight(weight)
+                .build()));
+        searchTokenRepository.saveAll(entities);
+    }
+
+    /**
+     * 조회 순서(ID 페이지 순위)대로 엔티티 정렬
+     */
+    private static <T> Page<T> hydrate(Page<Long> idPage, List<T> entities, Function<T, Long> idGetter) {
+        Map<Long, T> byId = entities.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+        List<T> ordered = idPage.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ordered, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    private static void addTokens(Map<String, Integer> tokens, String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        String normalized = normalize(text);
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            tokens.merge(normalized.substring(i, i + GRAM_SIZE), weight, Math::max);
+        }
+    }
+
+    /**
+     * 부분 문자열 확인용 검색어 (정규화 후 LIKE 특수문자 이스케이프)
+     */
+    private static String likeKeyword(String keyword) {
+        return normalize(keyword)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+}
@@ -1,75 +1,72 @@
 package com.orbit.util;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Random;
 
 /**
- * 거래 번호(입찰 번호, 계약 번호, 발주 번호 등) 생성 유틸리티 클래스
+ * 거래 번호(입찰 번호, 계약 번호, 발주 번호 등) 형식 유틸리티 클래스
+ * - 일련번호 할당은 BiddingNumberService 가 담당하고, 이 클래스는 번호 형식만 관리
  */
 public class BiddingNumberUtil {
-    
-    private static final Random random = new Random();
-    
+
+    public static final String BID_PREFIX = "BID-";
+    public static final String CONTRACT_PREFIX = "CNT-";
+    public static final String ORDER_PREFIX = "ORD-";
+
+    private static final DateTimeFormatter BID_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter SHORT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyMMdd");
+
     /**
-     * 입찰 번호 생성 (BID-YYYYMMDD-XXXX)
-     * @return 생성된 입찰 번호
+     * 입찰 번호 일자 키 (BID-YYYYMMDD)
      */
-    public static String generateBidNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        String datePart = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = String.format("%04d", random.nextInt(10000));
-        return "BID-" + datePart + "-" + randomPart;
+    public static String bidDateKey(LocalDate date) {
+        return BID_PREFIX + date.format(BID_DATE_FORMAT);
     }
-    
+
     /**
-     * 계약 번호 생성 (CNT-YYMMDD-XXX)
-     * @return 생성된 계약 번호
+     * 계약 번호 일자 키 (CNT-YYMMDD)
      */
-    public static String generateContractNumber() {
-        LocalDate now = LocalDate.now();
-        String datePart = now.format(DateTimeFormatter.ofPattern("yyMMdd"));
-        String randomPart = String.format("%03d", random.nextInt(1000));
-        return "CNT-" + datePart + "-" + randomPart;
+    public static String contractDateKey(LocalDate date) {
+        return CONTRACT_PREFIX + date.format(SHORT_DATE_FORMAT);
     }
-    
+
     /**
-     * 계약 번호 생성 (입찰 번호 기반)
-     * @param bidNumber 입찰 번호
-     * @return 생성된 계약 번호
+     * 발주 번호 일자 키 (ORD-YYMMDD)
      */
-    public static String generateContractNumberFromBidNumber(String bidNumber) {
-        if (bidNumber != null && bidNumber.startsWith("BID-")) {
-            return bidNumber.replace("BID-", "CNT-");
-        } else {
-            // 예외 처리: 기존 공고번호가 없거나 형식이 다른 경우
-            return generateContractNumber();
-        }
+    public static String orderDateKey(LocalDate date) {
+        return ORDER_PREFIX + date.format(SHORT_DATE_FORMAT);
     }
-    
+
     /**
-     * 발주 번호 생성 (ORD-YYMMDD-XXX)
-     * @return 생성된 발주 번호
+     * 입찰 번호 형식 (BID-YYYYMMDD-XXXX)
+     * @param dateKey 입찰 번호 일자 키
+     * @param sequence 일자별 일련번호
+     * @return 입찰 번호
      */
-    public static String generateOrderNumber() {
-        LocalDate now = LocalDate.now();
-        String datePart = now.format(DateTimeFormatter.ofPattern("yyMMdd"));
-        String randomPart = String.format("%03d", random.nextInt(1000));
-        return "ORD-" + datePart + "-" + randomPart;
+    public static String formatBidNumber(String dateKey, long sequence) {
+        return dateKey + "-" + String.format("%04d", sequence);
     }
-    
+
     /**
-     * 발주 번호 생성 (계약 번호 기반)
-     * @param contractNumber 계약 번호
-     * @return 생성된 발주 번호
+     * 계약/발주 번호 형식 (CNT-YYMMDD-XXX, ORD-YYMMDD-XXX)
+     * - 일련번호가 999를 넘으면 자릿수가 늘어나며 고유성은 유지됨
+     * @param dateKey 계약 또는 발주 번호 일자 키
+     * @param sequence 일자별 일련번호
+     * @return 계약 또는 발주 번호
+     */
+    public static String formatShortNumber(String dateKey, long sequence) {
+        return dateKey + "-" + String.format("%03d", sequence);
+    }
+
+    /**
+     * 계약 번호 파생 (입찰 번호 기반)
+     * @param bidNumber 입찰 번호
+     * @return 파생된 계약 번호, 입찰 번호 형식이 아니면 null
      */
-    public static String generateOrderNumberFromContractNumber(String contractNumber) {
-        if (contractNumber != null && contractNumber.startsWith("CNT-")) {
-            return contractNumber.replace("CNT-", "ORD-");
-        } else {
-            // 예외 처리: 기존 계약번호가 없거나 형식이 다른 경우
-            return generateOrderNumber();
+    public static String contractNumberFromBidNumber(String bidNumber) {
+        if (bidNumber != null && bidNumber.startsWith(BID_PREFIX)) {
+            return bidNumber.replace(BID_PREFIX, CONTRACT_PREFIX);
         }
+        return null;
     }
-}
\ No newline at end of file
+}
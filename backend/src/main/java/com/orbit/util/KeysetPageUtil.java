@@ -0,0 +1,77 @@
+package com.orbit.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+/**
+ * 커서 기반(keyset) 페이지 유틸리티 클래스
+ * - 알림 피드, 보관 알림 피드, 대화 이력처럼 (시각, id) 내림차순으로 넘기는 목록에서 사용
+ * - 커서는 마지막 항목의 (시각, id) 를 "시각_id" 형식으로 표현하고, 다음 페이지는 nextCursor 를 그대로 전달하여 조회
+ * - 페이지 크기 + 1 건을 조회하여 다음 페이지 존재 여부 판단
+ */
+public class KeysetPageUtil {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 첫 페이지 커서 (모든 항목보다 이후 시각)
+    private static final Cursor FIRST_PAGE = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /**
+     * 한 페이지 조회
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size 요청한 페이지 크기 (1 ~ MAX_PAGE_SIZE 로 보정)
+     * @param query 커서 이전 항목을 최신순으로 조회하는 쿼리 (조회 건수 제한 전달)
+     * @param timeOf 항목의 정렬 시각
+     * @param idOf 항목의 id
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public static <T> Page<T> fetch(String cursor, int size, BiFunction<Cursor, Pageable, List<T>> query,
+                                    Function<T, LocalDateTime> timeOf, Function<T, Long> idOf) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<T> items = query.apply(decodeCursor(cursor), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = items.size() > pageSize;
+        if (hasNext) {
+            items = items.subList(0, pageSize);
+        }
+        T last = hasNext ? items.get(items.size() - 1) : null;
+        return new Page<>(items, hasNext, last != null ? encodeCursor(timeOf.apply(last), idOf.apply(last)) : null);
+    }
+
+    /**
+     * 커서 해석 (없으면 첫 페이지 커서)
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static Cursor decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return FIRST_PAGE;
+        }
+        int separator = cursor.lastIndexOf('_');
+        try {
+            return new Cursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 커서 생성
+     */
+    public static String encodeCursor(LocalDateTime time, Long id) {
+        return time + "_" + id;
+    }
+
+    public record Cursor(LocalDateTime time, Long id) {
+    }
+
+    public record Page<T>(List<T> items, boolean hasNext, String nextCursor) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.orbit.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+/**
+ * 현재 애플리케이션 노드 식별자 유틸리티 클래스
+ * - 클러스터 환경에서 스케줄러 잠금 소유자, 메시지 발신 노드 등을 구분하는 데 사용
+ * - 형식: pid@host-랜덤 (재기동 시 새로운 값)
+ */
+public class NodeIdUtil {
+
+    private static final String NODE_ID =
+            ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    public static String getNodeId() {
+        return NODE_ID;
+    }
+}
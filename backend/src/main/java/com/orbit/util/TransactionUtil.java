@@ -0,0 +1,27 @@
+package com.orbit.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티 클래스
+ * - 실시간 알림처럼 롤백되면 안 되는 후속 작업을 커밋 이후로 미룰 때 사용
+ */
+public class TransactionUtil {
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션이 없으면 즉시 실행)
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,282 @@
+package com.orbit.config.websoket;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 브로커 부하 테스트 (가상 구독 세션)
+ * - 수천 개의 가상 세션이 /topic/approvals/{id} 를 구독한 상태에서 브로드캐스트 처리량 측정
+ * - 일부 세션은 전송이 끝나지 않는 느린 소비자로 두고, 버퍼 한도를 넘으면 연결이 끊기는지 확인
+ * - 채널 대기열을 넘지 않도록 대기열 길이를 보며 전송 (대기열 초과 시 메시지는 버려짐)
+ * - 세션 수는 환경 변수로 지정
+ *   예) BENCHMARK_STOMP_SUBSCRIBERS=10000 ./gradlew test --tests StompBrokerLoadTest
+ */
+@SpringBootTest(properties = {
+        "websocket.send-time-limit=1000",
+        "websocket.send-buffer-size-limit=4096",
+        "websocket.channel.inbound.queue-capacity=" + StompBrokerLoadTest.QUEUE_CAPACITY,
+        "websocket.channel.outbound.queue-capacity=" + StompBrokerLoadTest.QUEUE_CAPACITY
+})
+@Slf4j
+class StompBrokerLoadTest {
+
+    static final int QUEUE_CAPACITY = 50_000;
+    private static final int DEFAULT_SUBSCRIBERS = 2_000;
+    private static final int SLOW_SUBSCRIBERS = 8;
+    private static final int BROADCASTS = 50;
+    private static final String DESTINATION = "/topic/approvals/1";
+
+    @Autowired
+    @Qualifier("subProtocolWebSocketHandler")
+    private WebSocketHandler subProtocolWebSocketHandler;
+
+    @Autowired
+    private StompBrokerMetrics stompBrokerMetrics;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("가상 구독자 브로드캐스트 처리량과 느린 소비자 연결 종료")
+    void broadcastToSimulatedSubscribers() throws Exception {
+        // given
+        String subscribers = System.getenv("BENCHMARK_STOMP_SUBSCRIBERS");
+        int subscriberCount = subscribers == null ? DEFAULT_SUBSCRIBERS : Integer.parseInt(subscribers);
+        WebSocketHandler handler = stompBrokerMetrics.sessionDecoratorFactory().decorate(subProtocolWebSocketHandler);
+
+        List<SimulatedSession> sessions = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            SimulatedSession session = new SimulatedSession("load-" + i, i < SLOW_SUBSCRIBERS, handler);
+            handler.afterConnectionEstablished(session);
+            handler.handleMessage(session, new TextMessage("CONNECT\naccept-version:1.2\nheart-beat:0,0\n\n\0"));
+            handler.handleMessage(session, new TextMessage("SUBSCRIBE\nid:sub-0\ndestination:" + DESTINATION + "\n\n\0"));
+            sessions.add(session);
+            waitUntil(() -> queueDepth("inbound") < QUEUE_CAPACITY / 2, 10); // 채널 대기열 초과 방지
+        }
+        waitUntil(() -> subscriptions() >= subscriberCount, 30);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < BROADCASTS; i++) {
+            waitUntil(() -> queueDepth("outbound") + subscriberCount <= QUEUE_CAPACITY, 10);
+            messagingTemplate.convertAndSend(DESTINATION, Map.of("seq", i, "status", "IN_REVIEW"));
+        }
+        long expected = (long) (subscriberCount - SLOW_SUBSCRIBERS) * BROADCASTS;
+        waitUntil(() -> delivered(sessions) >= expected, 60);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // then
+        log.info("[{}개 세션] 브로드캐스트 {}건, 전달 {}건, {} msgs/s, 느린 세션 종료 {}건",
+                subscriberCount, BROADCASTS, delivered(sessions), (long) (expected / elapsedSeconds), closedSlowSessions(sessions));
+        assertThat(delivered(sessions)).isEqualTo(expected);
+        waitUntil(() -> closedSlowSessions(sessions) == SLOW_SUBSCRIBERS, 10);
+        assertThat(closedSlowSessions(sessions)).isEqualTo(SLOW_SUBSCRIBERS);
+        assertThat(meterRegistry.find("websocket.stomp.sessions.dropped").tag("prefix", "/topic/approvals")
+                .counter().count()).isGreaterThanOrEqualTo(SLOW_SUBSCRIBERS);
+
+        for (SimulatedSession session : sessions) {
+            session.close(CloseStatus.NORMAL);
+        }
+    }
+
+    @Test
+    @DisplayName("알려진 접두사 외의 목적지는 other 태그로 묶음")
+    void unknownDestinationsShareOtherPrefix() {
+        assertThat(StompBrokerMetrics.prefixOf("/topic/approvals/12")).isEqualTo("/topic/approvals");
+        assertThat(StompBrokerMetrics.prefixOf("/queue/notifications/3/items")).isEqualTo("/queue/notifications");
+        assertThat(StompBrokerMetrics.prefixOf("/user/queue/approval-inbox")).isEqualTo("/user/queue/approval-inbox");
+        assertThat(StompBrokerMetrics.prefixOf("/queue/approval-inbox/12")).isEqualTo("other");
+        assertThat(StompBrokerMetrics.prefixOf("/queue/approval-inbox-user" + System.nanoTime())).isEqualTo("other");
+        assertThat(StompBrokerMetrics.prefixOf("/queue/user-123")).isEqualTo("other");
+        assertThat(StompBrokerMetrics.prefixOf("/topic/approvals-" + System.nanoTime())).isEqualTo("other");
+        assertThat(StompBrokerMetrics.prefixOf("anything")).isEqualTo("other");
+        assertThat(StompBrokerMetrics.prefixOf(null)).isEqualTo("other");
+    }
+
+    private double subscriptions() {
+        var gauge = meterRegistry.find("websocket.stomp.subscriptions").tag("prefix", "/topic/approvals").gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private double queueDepth(String channel) {
+        var gauge = meterRegistry.find("websocket.channel.queue.depth").tag("channel", channel).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private static long delivered(List<SimulatedSession> sessions) {
+        return sessions.stream().filter(session -> !session.slow).mapToLong(session -> session.received.get()).sum();
+    }
+
+    private static long closedSlowSessions(List<SimulatedSession> sessions) {
+        return sessions.stream()
+                .filter(session -> session.slow && CloseStatus.SESSION_NOT_RELIABLE.equalsCode(session.closeStatus.get()))
+                .count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition, int timeoutSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * 가상 WebSocket 세션
+     * - 느린 세션은 연결이 끊길 때까지 전송이 끝나지 않음
+     */
+    private static class SimulatedSession implements WebSocketSession {
+
+        private final String id;
+        private final boolean slow;
+        private final WebSocketHandler handler;
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicReference<CloseStatus> closeStatus = new AtomicReference<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private int textMessageSizeLimit = 64 * 1024;
+        private int binaryMessageSizeLimit = 64 * 1024;
+
+        SimulatedSession(String id, boolean slow, WebSocketHandler handler) {
+            this.id = id;
+            this.slow = slow;
+            this.handler = handler;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            String payload = String.valueOf(message.getPayload());
+            if (!payload.startsWith("MESSAGE")) {
+                return; // CONNECTED 등
+            }
+            if (slow) {
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            received.incrementAndGet();
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            if (closeStatus.compareAndSet(null, status)) {
+                closed.countDown();
+                // 실제 컨테이너처럼 종료 콜백은 별도 스레드에서 호출
+                new Thread(() -> {
+                    try {
+                        handler.afterConnectionClosed(this, status);
+                    } catch (Exception ignored) {
+                    }
+                }).start();
+            }
+        }
+
+        @Override
+        public void close() {
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return closeStatus.get() == null;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return URI.create("ws://localhost/ws");
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+            this.textMessageSizeLimit = messageSizeLimit;
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return textMessageSizeLimit;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+            this.binaryMessageSizeLimit = messageSizeLimit;
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return binaryMessageSizeLimit;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+    }
+}
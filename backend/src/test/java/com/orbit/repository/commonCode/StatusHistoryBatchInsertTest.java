@@ -0,0 +1,75 @@
+package com.orbit.repository.commonCode;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbit.entity.commonCode.StatusHistory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * pooled 시퀀스 + JDBC 배치 INSERT 검증
+ * - 배치 크기 1(기존 IDENTITY 방식과 동일하게 행마다 INSERT)과 설정된 배치 크기에서 준비된 JDBC 문장 수를 비교
+ * - 시간 대신 Hibernate 통계의 문장 수로 확인하므로 DB 성능이나 워밍업에 영향을 받지 않음
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Slf4j
+@Transactional
+class StatusHistoryBatchInsertTest {
+
+    private static final int ROW_COUNT = 500;
+    private static final int BATCH_SIZE = 50;       // hibernate.jdbc.batch_size
+    private static final int ALLOCATION_SIZE = 50;  // status_histories_seq allocationSize
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Test
+    @DisplayName("배치 INSERT 는 배치 크기 단위로 문장을 준비하고, 시퀀스는 할당 크기 단위로만 조회")
+    void insertsInBatches() {
+        // given
+        Session session = em.unwrap(Session.class);
+        Statistics statistics = session.getSessionFactory().getStatistics();
+
+        // when
+        session.setJdbcBatchSize(1);
+        long rowByRow = preparedStatementsFor(session, statistics);
+
+        session.setJdbcBatchSize(null); // hibernate.jdbc.batch_size 설정값 사용
+        long batched = preparedStatementsFor(session, statistics);
+
+        // then
+        log.info("준비된 문장 수 - 행 단위: {}, 배치: {}", rowByRow, batched);
+        assertThat(rowByRow).isGreaterThanOrEqualTo(ROW_COUNT);
+        // INSERT 배치 + 시퀀스 조회 (경계에 걸치는 경우를 고려해 각각 1회 여유)
+        assertThat(batched).isLessThanOrEqualTo(ROW_COUNT / BATCH_SIZE + ROW_COUNT / ALLOCATION_SIZE + 2);
+    }
+
+    /**
+     * ROW_COUNT 건 저장 후 flush 하는 동안 준비된 JDBC 문장 수
+     */
+    private long preparedStatementsFor(Session session, Statistics statistics) {
+        statistics.clear();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            session.persist(StatusHistory.builder()
+                    .entityType(StatusHistory.EntityType.BIDDING)
+                    .reason("batch-" + i)
+                    .changedAt(LocalDateTime.now())
+                    .build());
+        }
+        session.flush();
+        session.clear();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        return statistics.getPrepareStatementCount();
+    }
+}
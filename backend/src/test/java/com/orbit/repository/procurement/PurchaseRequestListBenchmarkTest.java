@@ -0,0 +1,224 @@
+package com.orbit.repository.procurement;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbit.service.procurement.PurchaseRequestService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구매 요청 목록 조회 검증 (요청 유형별)
+ * - 실행된 SQL 을 StatementInspector 로 모아, 목록 조회가 본문 LOB 컬럼을 읽지 않고 페이지당 고정된 수의 문장만 실행하는지 확인
+ * - 처리량 비교(엔티티 목록 vs 요약 목록)는 환경 변수를 지정한 경우에만 실행
+ *   예) BENCHMARK_PURCHASE_REQUEST_ROWS=500000 ./gradlew test --tests PurchaseRequestListBenchmarkTest
+ */
+@SpringBootTest
+@Slf4j
+@Transactional
+class PurchaseRequestListBenchmarkTest {
+
+    private static final int SAMPLE_ROW_COUNT = 180; // 유형별 60행 (여러 페이지)
+    private static final int INSERT_CHUNK = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 50;
+    private static final List<String> TYPES = Arrays.asList(null, "SI", "MAINTENANCE", "GOODS");
+    private static final String CONTENT = "x".repeat(2_000); // LOB 컬럼 최대 길이
+    private static final List<String> LOB_COLUMNS = List.of("project_content", "contract_details");
+
+    // 요약 목록: 페이지 조회 + COUNT
+    private static final int SUMMARY_STATEMENTS_PER_PAGE = 2;
+    // 엔티티 목록: ID 페이지 + COUNT + 연관 엔티티 일괄 조회 + 물품 품목 일괄 조회
+    private static final int ENTITY_STATEMENTS_PER_PAGE = 4;
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    /**
+     * 실행되는 SQL 수집
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                statements.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PurchaseRequestService purchaseRequestService;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        insertRows(SAMPLE_ROW_COUNT);
+    }
+
+    @Test
+    @DisplayName("요약 목록은 본문 LOB 컬럼을 조회하지 않고 페이지당 고정된 수의 문장만 실행")
+    void summaryListSkipsLobColumns() {
+        for (String type : TYPES) {
+            for (int page = 0; page < 3; page++) {
+                int pageNumber = page;
+
+                // when
+                List<String> executed = capture(() -> purchaseRequestService.getPurchaseRequestSummaries(
+                        type, null, null, null, null, null, PageRequest.of(pageNumber, PAGE_SIZE)));
+
+                // then
+                assertThat(executed).as("유형 %s, 페이지 %d", type, page).hasSize(SUMMARY_STATEMENTS_PER_PAGE);
+                assertNoLobColumns(executed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("엔티티 목록은 본문 LOB 컬럼을 지연 로딩하고 페이지 크기와 무관하게 고정된 수의 문장만 실행")
+    void entityListSkipsLobColumns() {
+        for (String type : TYPES) {
+            for (int pageSize : new int[]{PAGE_SIZE, PAGE_SIZE * 3}) {
+                // when
+                List<String> executed = capture(() -> purchaseRequestService.getPurchaseRequests(
+                        type, null, null, null, null, null, PageRequest.of(0, pageSize)));
+
+                // then
+                assertThat(executed).as("유형 %s, 페이지 크기 %d", type, pageSize)
+                        .hasSizeLessThanOrEqualTo(ENTITY_STATEMENTS_PER_PAGE);
+                assertNoLobColumns(executed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("요청 유형별 목록 처리량 비교 (엔티티 목록 vs 요약 목록)")
+    void listThroughputByRequestType() {
+        String rows = System.getenv("BENCHMARK_PURCHASE_REQUEST_ROWS");
+        assumeTrue(rows != null, "BENCHMARK_PURCHASE_REQUEST_ROWS 를 지정한 경우에만 실행");
+        int rowCount = Integer.parseInt(rows);
+        insertRows(rowCount);
+
+        for (String type : TYPES) {
+            // when
+            double entityPages = pagesPerSecond(page -> purchaseRequestService.getPurchaseRequests(
+                    type, null, null, null, null, null, PageRequest.of(page, PAGE_SIZE)));
+            double summaryPages = pagesPerSecond(page -> purchaseRequestService.getPurchaseRequestSummaries(
+                    type, null, null, null, null, null, PageRequest.of(page, PAGE_SIZE)));
+
+            // then
+            log.info("[{}행, 유형 {}] 엔티티 목록: {} pages/s, 요약 목록: {} pages/s",
+                    rowCount, type == null ? "ALL" : type, (long) entityPages, (long) summaryPages);
+        }
+    }
+
+    /**
+     * 조회 중 실행된 SQL (영속성 컨텍스트를 비운 상태에서 시작)
+     */
+    private List<String> capture(Runnable query) {
+        em.clear();
+        statements.clear();
+        query.run();
+        List<String> executed = new ArrayList<>(statements);
+        statements.clear();
+        return executed;
+    }
+
+    private static void assertNoLobColumns(List<String> executed) {
+        for (String sql : executed) {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            for (String column : LOB_COLUMNS) {
+                assertThat(lower).as("LOB 컬럼 조회: %s", sql).doesNotContain(column);
+            }
+        }
+    }
+
+    private double pagesPerSecond(IntConsumer fetchPage) {
+        fetchPage.accept(0); // 쿼리 계획 준비
+        em.clear();
+
+        long start = System.nanoTime();
+        for (int page = 0; page < PAGES; page++) {
+            fetchPage.accept(page);
+            em.clear(); // 1차 캐시 재사용 방지
+        }
+        long elapsed = System.nanoTime() - start;
+        return PAGES / (elapsed / 1_000_000_000.0);
+    }
+
+    /**
+     * 유형을 번갈아 가며 구매 요청 행 적재 (SI/유지보수 행은 본문 LOB 컬럼을 채움)
+     */
+    private void insertRows(int count) {
+        String prefix = "BENCH-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        LocalDate baseDate = LocalDate.now();
+        String sql = """
+            INSERT INTO purchase_requests
+                (request_type, request_name, request_number, request_date, status_parent_code, status_child_code,
+                 business_type, business_budget, project_content, contract_details, contract_amount, approval_version)
+            VALUES (?, ?, ?, ?, 'PURCHASE_REQUEST', 'REQUESTED', ?, ?, ?, ?, ?, 0)
+            """;
+
+        for (int offset = 0; offset < count; offset += INSERT_CHUNK) {
+            int from = offset;
+            int size = Math.min(INSERT_CHUNK, count - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int n = from + i;
+                    String type = TYPES.get(1 + n % 3);
+                    ps.setString(1, type);
+                    ps.setString(2, "benchmark-" + n);
+                    ps.setString(3, prefix + n);
+                    ps.setDate(4, Date.valueOf(baseDate.minusDays(n % 365)));
+                    ps.setString(5, type);
+                    ps.setBigDecimal(6, BigDecimal.valueOf(1_000_000L));
+                    ps.setString(7, "SI".equals(type) ? CONTENT : null);
+                    ps.setString(8, "MAINTENANCE".equals(type) ? CONTENT : null);
+                    ps.setBigDecimal(9, "MAINTENANCE".equals(type) ? BigDecimal.valueOf(500_000L) : null);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.orbit.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.dto.MessageRequestDto;
+
+/**
+ * 채팅 메시지 릴레이 테스트
+ * - 라우팅 필드(senderId/receiverId)만 읽고, 받은 바이트를 다시 직렬화하지 않고 그대로 전달하는지 확인
+ * - 브로커 대신 전송된 메시지를 모으는 채널 사용
+ */
+class MessageSubscriberServiceTest {
+
+    private static final byte[] CHANNEL = "chat_channel".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PATTERN = "chat_channel".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Message<?>> sent = new ArrayList<>();
+    private MessageSubscriberService subscriber;
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> {
+            sent.add(message);
+            return true;
+        });
+        subscriber = new MessageSubscriberService(messagingTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("수신자와 발신자 토픽으로 받은 바이트를 그대로 전달한다")
+    void relaysOriginalPayloadByteForByte() throws Exception {
+        // given
+        byte[] body = objectMapper.writeValueAsBytes(MessageRequestDto.builder()
+                .senderId(1L)
+                .receiverId(2L)
+                .content("안녕하세요. 견적 요청 건 확인 부탁드립니다. \"따옴표\" \\ 이모지 😀")
+                .build());
+        byte[] original = body.clone();
+
+        // when
+        subscriber.onMessage(new DefaultMessage(CHANNEL, body), PATTERN);
+
+        // then
+        assertThat(sent).extracting(MessageSubscriberServiceTest::destinationOf)
+                .containsExactly("/topic/chat/2", "/topic/chat/1");
+        for (Message<?> message : sent) {
+            assertThat((byte[]) message.getPayload()).isEqualTo(original);
+            assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        }
+    }
+
+    @Test
+    @DisplayName("라우팅 필드가 중첩 객체 뒤에 있거나 문자열이어도 원본 그대로 전달한다")
+    void routesRegardlessOfFieldOrderAndType() {
+        // given
+        String json = "{\"content\":\"{\\\"senderId\\\":9}\",\"meta\":{\"receiverId\":8,\"tags\":[1,2]},"
+                + "\"receiverId\":\"4\",\"senderId\":3,\"extra\":true}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        subscriber.onMessage(new DefaultMessage(CHANNEL, body), PATTERN);
+
+        // then
+        assertThat(sent).extracting(MessageSubscriberServiceTest::destinationOf)
+                .containsExactly("/topic/chat/4", "/topic/chat/3");
+        assertThat(new String((byte[]) sent.get(0).getPayload(), StandardCharsets.UTF_8)).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("발신자/수신자가 없거나 JSON 이 아니면 전달하지 않는다")
+    void ignoresUnroutableMessages() {
+        // when
+        subscriber.onMessage(new DefaultMessage(CHANNEL, "{\"senderId\":1}".getBytes(StandardCharsets.UTF_8)), PATTERN);
+        subscriber.onMessage(new DefaultMessage(CHANNEL, "[1,2]".getBytes(StandardCharsets.UTF_8)), PATTERN);
+        subscriber.onMessage(new DefaultMessage(CHANNEL, "{\"senderId\":".getBytes(StandardCharsets.UTF_8)), PATTERN);
+
+        // then
+        assertThat(sent).isEmpty();
+    }
+
+    private static String destinationOf(Message<?> message) {
+        return SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    }
+}
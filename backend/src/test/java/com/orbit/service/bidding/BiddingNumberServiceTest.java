@@ -0,0 +1,67 @@
+package com.orbit.service.bidding;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.orbit.repository.bidding.BiddingNumberSequenceRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BiddingNumberServiceTest {
+
+    private static final int BLOCK_SIZE = 20;
+
+    @Mock
+    private BiddingNumberSequenceRepository sequenceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BiddingNumberService biddingNumberService;
+
+    @BeforeEach
+    void setUp() {
+        biddingNumberService = new BiddingNumberService(sequenceRepository, transactionManager, BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("블록 단위 채번 - 블록이 소진될 때만 DB 조회")
+    void nextOrderNumberAllocatesByBlock() {
+        // given
+        when(sequenceRepository.findNextValue(anyString())).thenReturn(21L, 41L);
+
+        // when
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            numbers.add(biddingNumberService.nextOrderNumber());
+        }
+
+        // then
+        assertEquals(25, numbers.size());
+        assertTrue(numbers.stream().allMatch(n -> n.matches("ORD-\\d{6}-\\d{3}")));
+        verify(sequenceRepository, times(2)).reserveBlock(anyString(), eq(BLOCK_SIZE));
+    }
+
+    @Test
+    @DisplayName("입찰 번호 기반 계약 번호 파생")
+    void contractNumberFromBidNumber() {
+        // when
+        String contractNumber = biddingNumberService.contractNumberFromBidNumber("BID-20250101-0001");
+
+        // then
+        assertEquals("CNT-20250101-0001", contractNumber);
+        verifyNoInteractions(sequenceRepository);
+    }
+}
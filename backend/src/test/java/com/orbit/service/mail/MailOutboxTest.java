@@ -0,0 +1,72 @@
+package com.orbit.service.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 메일 아웃박스 발송 테스트 (로컬 GreenMail SMTP 서버 사용)
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false"
+})
+class MailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private MailOutbox mailOutbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("커밋된 트랜잭션의 메일은 백그라운드에서 발송된다")
+    void sendsAfterCommit() throws Exception {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                mailOutbox.enqueue("user" + i + "@example.com", "인증 코드 " + i, "본문 " + i);
+            }
+        });
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(10_000, 3)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).startsWith("인증 코드");
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 메일은 발송하지 않는다")
+    void skipsRolledBackTransaction() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            mailOutbox.enqueue("rollback@example.com", "발송 안 됨", "본문");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(2_000, 1)).isFalse();
+    }
+}
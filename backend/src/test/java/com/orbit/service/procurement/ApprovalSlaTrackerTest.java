@@ -0,0 +1,211 @@
+package com.orbit.service.procurement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.orbit.entity.Notification.NotificationType;
+import com.orbit.entity.approval.ApprovalLine;
+import com.orbit.entity.commonCode.ChildCode;
+import com.orbit.entity.member.Member;
+import com.orbit.entity.procurement.PurchaseRequest;
+import com.orbit.repository.approval.ApprovalLineRepository;
+import com.orbit.service.NotificationService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 결재 SLA 에스컬레이션 테스트
+ * - 에스컬레이션 기한을 0 으로 두어 결재 차례가 되자마자 타이머가 만료되도록 함
+ */
+@ExtendWith(MockitoExtension.class)
+class ApprovalSlaTrackerTest {
+
+    private static final long LINE_ID = 1L;
+    private static final long APPROVER_ID = 10L;
+    private static final long REQUEST_ID = 100L;
+    private static final long TIMEOUT_MS = 5_000;
+
+    @Mock
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OrgChartIndex orgChartIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApprovalSlaTracker approvalSlaTracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        approvalSlaTracker = new ApprovalSlaTracker(approvalLineRepository, notificationService, orgChartIndex,
+                meterRegistry, transactionManager, Duration.ofDays(1), Duration.ZERO);
+
+        when(approvalLineRepository.findInReviewSlaRows()).thenReturn(List.of());
+        approvalSlaTracker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        approvalSlaTracker.shutdown();
+    }
+
+    @Test
+    @DisplayName("SLA 초과 시 결재자의 상위자에게 에스컬레이션 알림")
+    void escalatesToSuperior() throws InterruptedException {
+        // given
+        ApprovalLine line = inReviewLine();
+        when(approvalLineRepository.markSlaEscalated(eq(LINE_ID), any())).thenReturn(1);
+        when(approvalLineRepository.findById(LINE_ID)).thenReturn(Optional.of(line));
+        when(orgChartIndex.resolveEscalationTargetId(APPROVER_ID)).thenReturn(Optional.of(20L));
+
+        // when
+        approvalSlaTracker.track(List.of(line));
+
+        // then
+        verify(notificationService, timeout(TIMEOUT_MS)).createNotification(
+                eq(20L), eq("결재 지연 에스컬레이션"), anyString(), eq(NotificationType.기타), eq(REQUEST_ID));
+        waitForCount("escalated");
+        assertThat(escalationCount("escalated")).isEqualTo(1);
+        assertThat(escalationCount("no_target")).isZero();
+    }
+
+    @Test
+    @DisplayName("에스컬레이션 대상이 없으면 알림 없이 no_target 으로만 집계")
+    void countsMissingTargetSeparately() throws InterruptedException {
+        // given
+        ApprovalLine line = inReviewLine();
+        when(approvalLineRepository.markSlaEscalated(eq(LINE_ID), any())).thenReturn(1);
+        when(approvalLineRepository.findById(LINE_ID)).thenReturn(Optional.of(line));
+        when(orgChartIndex.resolveEscalationTargetId(APPROVER_ID)).thenReturn(Optional.empty());
+
+        // when
+        approvalSlaTracker.track(List.of(line));
+
+        // then
+        verify(orgChartIndex, timeout(TIMEOUT_MS)).resolveEscalationTargetId(APPROVER_ID);
+        waitForCount("no_target");
+        assertThat(escalationCount("no_target")).isEqualTo(1);
+        assertThat(escalationCount("escalated")).isZero();
+        verify(notificationService, never()).createNotification(anyLong(), anyString(), anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 이미 에스컬레이션한 결재선은 건너뜀")
+    void skipsWhenAlreadyEscalated() {
+        // given
+        ApprovalLine line = inReviewLine();
+        when(approvalLineRepository.markSlaEscalated(eq(LINE_ID), any())).thenReturn(0);
+
+        // when
+        approvalSlaTracker.track(List.of(line));
+
+        // then
+        verify(approvalLineRepository, timeout(TIMEOUT_MS)).markSlaEscalated(eq(LINE_ID), any());
+        verify(approvalLineRepository, never()).findById(anyLong());
+        assertThat(escalationCount("escalated") + escalationCount("no_target")).isZero();
+    }
+
+    @Test
+    @DisplayName("재조회 시 다른 노드에서 결재 차례가 된 결재선의 타이머를 인계받아 에스컬레이션")
+    void adoptsTimersOnRescan() throws InterruptedException {
+        // given - 다른 노드에서 결재 차례가 되어 이 노드에는 타이머가 없는 결재선
+        ApprovalLine line = inReviewLine();
+        when(approvalLineRepository.findInReviewSlaRows())
+                .thenReturn(List.<Object[]>of(new Object[]{LINE_ID, LocalDateTime.now(), null, null}));
+        when(approvalLineRepository.markSlaEscalated(eq(LINE_ID), any())).thenReturn(1);
+        when(approvalLineRepository.findById(LINE_ID)).thenReturn(Optional.of(line));
+        when(orgChartIndex.resolveEscalationTargetId(APPROVER_ID)).thenReturn(Optional.of(20L));
+
+        // when
+        approvalSlaTracker.rescanTimers();
+
+        // then
+        verify(notificationService, timeout(TIMEOUT_MS)).createNotification(
+                eq(20L), eq("결재 지연 에스컬레이션"), anyString(), eq(NotificationType.기타), eq(REQUEST_ID));
+        waitForCount("escalated");
+        assertThat(escalationCount("escalated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 소요 시간은 결재자 태그 없이 부서/결과별로만 기록")
+    void recordsStepDurationWithoutApproverTag() {
+        // given
+        ChildCode approved = mock(ChildCode.class);
+        when(approved.getCodeValue()).thenReturn("APPROVED");
+        Member approver = mock(Member.class);
+        ApprovalLine line = mock(ApprovalLine.class);
+        when(line.getId()).thenReturn(LINE_ID);
+        when(line.getStatus()).thenReturn(approved);
+        when(line.getReviewStartedAt()).thenReturn(LocalDateTime.now().minusHours(2));
+        when(line.getApprovedAt()).thenReturn(LocalDateTime.now());
+        when(line.getApprover()).thenReturn(approver);
+
+        // when (트랜잭션 밖이므로 즉시 기록)
+        approvalSlaTracker.track(List.of(line));
+
+        // then
+        Timer timer = meterRegistry.get("approval.step.duration").tag("outcome", "APPROVED").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.getId().getTag("approver")).isNull();
+        assertThat(timer.getId().getTag("department")).isEqualTo("NONE");
+    }
+
+    /**
+     * 결재 차례(IN_REVIEW)인 결재선
+     */
+    private ApprovalLine inReviewLine() {
+        ChildCode status = mock(ChildCode.class);
+        lenient().when(status.getCodeValue()).thenReturn("IN_REVIEW");
+
+        Member approver = mock(Member.class);
+        lenient().when(approver.getId()).thenReturn(APPROVER_ID);
+        lenient().when(approver.getName()).thenReturn("결재자");
+
+        PurchaseRequest request = mock(PurchaseRequest.class);
+        lenient().when(request.getId()).thenReturn(REQUEST_ID);
+
+        ApprovalLine line = mock(ApprovalLine.class);
+        lenient().when(line.getId()).thenReturn(LINE_ID);
+        lenient().when(line.getStatus()).thenReturn(status);
+        lenient().when(line.getReviewStartedAt()).thenReturn(LocalDateTime.now());
+        lenient().when(line.getApprover()).thenReturn(approver);
+        lenient().when(line.getPurchaseRequest()).thenReturn(request);
+        return line;
+    }
+
+    private double escalationCount(String result) {
+        return meterRegistry.get("approval.sla.escalations").tag("result", result).counter().count();
+    }
+
+    private void waitForCount(String result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (escalationCount(result) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -228,7 +228,7 @@ function DeliveryListPage() {
         try {
             setLoading(true);
             const params = new URLSearchParams();
-            if (searchTerm) params.append('deliveryNumber', searchTerm);
+            if (searchTerm) params.append('keyword', searchTerm);
             if (deliveryDate) params.append('startDate', moment(deliveryDate).format('YYYY-MM-DD'));
             if (supplier) params.append('supplierName', supplier);
             params.append('page', page);
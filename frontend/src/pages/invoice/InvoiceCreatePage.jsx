@@ -61,6 +61,9 @@ const SectionTitle = styled(Typography)(({ theme }) => ({
   margin: theme.spacing(2, 0, 1)
 }));
 
+// 송장 미발행 입고 목록 조회 페이지 크기 (마지막 페이지까지 이어서 조회)
+const DELIVERY_PAGE_SIZE = 100;
+
 // 금액 형식 변환 함수
 const formatCurrency = (amount) => {
   if (!amount) return '0원';
@@ -293,26 +296,30 @@ const InvoiceCreatePage = () => {
       setLoading(true);
 
       // API 엔드포인트 수정 - 서플라이어 회사명 추가
-      let endpoint = `${API_URL}deliveries/uninvoiced-with-contracts`;
+      const params = new URLSearchParams({ size: String(DELIVERY_PAGE_SIZE) });
 
       // 서플라이어인 경우 자사 데이터만 조회하도록 필터 추가
       if (isSupplier() && companyName) {
-        endpoint += `?supplierName=${encodeURIComponent(companyName)}`;
+        params.set('supplierName', companyName);
       }
 
-      console.log('API 요청 시작: ', endpoint);
-      const response = await fetchWithAuth(endpoint);
-      console.log('API 응답 상태: ', response.status);
-
-      if (!response.ok) {
-        throw new Error(`입고 목록 조회 실패: ${response.status}`);
-      }
+      // 페이지 단위 응답이므로 마지막 페이지까지 이어서 조회
+      const deliveriesData = [];
+      for (let page = 0; ; page++) {
+        params.set('page', String(page));
+        const endpoint = `${API_URL}deliveries/uninvoiced-with-contracts?${params.toString()}`;
+        const response = await fetchWithAuth(endpoint);
 
-      const data = await response.json();
-      console.log('입고 데이터 원본:', data);
+        if (!response.ok) {
+          throw new Error(`입고 목록 조회 실패: ${response.status}`);
+        }
 
-      // 페이징된 응답인 경우 content 필드를 확인하고, 아니면 data 자체를 사용
-      const deliveriesData = data.content || data;
+        const data = await response.json();
+        deliveriesData.push(...(data.content || []));
+        if (data.last !== false) {
+          break;
+        }
+      }
 
       // 데이터가 배열인지 확인
       if (!Array.isArray(deliveriesData)) {